@@ -15,8 +15,10 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -107,9 +109,16 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, ListenerRegistration> listenerRegistrations = new ConcurrentHashMap<>();
     private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
 
+    /**
+     * The group addresses a listener was registered for, and the executor delivering its telegrams in order
+     */
+    private record ListenerRegistration(Set<GroupAddress> groupAddresses, SerialExecutor executor) {
+    }
+
     @FunctionalInterface
     private interface ListenerNotification {
         void apply(BusMessageListener listener, IndividualAddress source, GroupAddress destination, byte[] asdu);
@@ -342,10 +351,14 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
         boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners != null) {
+            for (GroupAddressListener listener : listeners) {
+                ListenerRegistration registration = listenerRegistrations.get(listener);
+                if (registration != null && listener.listensTo(destination)) {
+                    isHandled = true;
+                    registration.executor().execute(() -> action.apply(listener, source, destination, asdu));
+                }
             }
         }
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
@@ -520,12 +533,38 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        synchronized (listenerRegistrations) {
+            ListenerRegistration oldRegistration = removeFromIndex(listener);
+            // keep the executor of a re-registered listener, so its telegrams stay in order
+            SerialExecutor executor = oldRegistration != null ? oldRegistration.executor()
+                    : new SerialExecutor(knxScheduler);
+            Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfAbsent(groupAddress, k -> new CopyOnWriteArraySet<>()).add(listener);
+            }
+            listenerRegistrations.put(listener, new ListenerRegistration(groupAddresses, executor));
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (listenerRegistrations) {
+            removeFromIndex(listener);
+        }
+    }
+
+    // callers synchronize on listenerRegistrations
+    private @Nullable ListenerRegistration removeFromIndex(GroupAddressListener listener) {
+        ListenerRegistration registration = listenerRegistrations.remove(listener);
+        if (registration != null) {
+            for (GroupAddress groupAddress : registration.groupAddresses()) {
+                groupAddressListeners.computeIfPresent(groupAddress, (k, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
+        return registration;
     }
 
     @Override
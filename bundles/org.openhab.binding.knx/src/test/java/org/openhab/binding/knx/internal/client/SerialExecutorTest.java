@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Snickermicker - Initial contribution
+ *
+ */
+@NonNullByDefault
+class SerialExecutorTest {
+
+    // collects submitted runnables, so the test decides when they run
+    private final Queue<Runnable> submitted = new ArrayDeque<>();
+
+    private void runSubmitted() {
+        Runnable runnable;
+        while ((runnable = submitted.poll()) != null) {
+            runnable.run();
+        }
+    }
+
+    @Test
+    void tasksRunInOrderWithOneSubmission() {
+        SerialExecutor executor = new SerialExecutor(submitted::add);
+        List<Integer> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            executor.execute(() -> results.add(value));
+        }
+
+        assertEquals(1, submitted.size());
+        runSubmitted();
+        assertEquals(List.of(0, 1, 2, 3, 4), results);
+
+        // idle again, the next task is submitted
+        executor.execute(() -> results.add(5));
+        assertEquals(1, submitted.size());
+        runSubmitted();
+        assertEquals(6, results.size());
+    }
+
+    @Test
+    void longQueueIsRunInBatches() {
+        SerialExecutor executor = new SerialExecutor(submitted::add);
+        List<Integer> results = new ArrayList<>();
+        for (int i = 0; i < SerialExecutor.MAX_BATCH + 1; i++) {
+            int value = i;
+            executor.execute(() -> results.add(value));
+        }
+
+        Objects.requireNonNull(submitted.poll()).run();
+        assertEquals(SerialExecutor.MAX_BATCH, results.size());
+        // the rest was submitted again
+        assertEquals(1, submitted.size());
+        runSubmitted();
+        assertEquals(SerialExecutor.MAX_BATCH + 1, results.size());
+    }
+
+    @Test
+    void failingTaskDoesNotStopQueue() {
+        SerialExecutor executor = new SerialExecutor(submitted::add);
+        List<Integer> results = new ArrayList<>();
+        executor.execute(() -> {
+            throw new IllegalStateException("test");
+        });
+        executor.execute(() -> results.add(1));
+
+        runSubmitted();
+        assertEquals(List.of(1), results);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -72,6 +73,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     private Map<String, String> knownAccessories = new HashMap<>();
     private int instance;
     private List<String> priorDummies = new ArrayList<>();
+    private final Map<String, List<ItemSnapshot>> fingerprints = new HashMap<>();
 
     private final Set<String> pendingUpdates = new HashSet<>();
 
@@ -88,6 +90,27 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      */
     private final Debouncer applyUpdatesDebouncer;
 
+    /**
+     * The parts of an item an accessory is built from. Items are compared by identity, since the accessory keeps a
+     * reference to the item instance it was built from, which is replaced when the item is updated.
+     */
+    private record ItemSnapshot(Item item, @Nullable String label, @Nullable String category, List<String> groupNames,
+            @Nullable String metadataValue, @Nullable Map<String, Object> metadataConfiguration) {
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof ItemSnapshot other && item == other.item && Objects.equals(label, other.label)
+                    && Objects.equals(category, other.category) && groupNames.equals(other.groupNames)
+                    && Objects.equals(metadataValue, other.metadataValue)
+                    && Objects.equals(metadataConfiguration, other.metadataConfiguration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(item), label, category, groupNames, metadataValue,
+                    metadataConfiguration);
+        }
+    }
+
     HomekitChangeListener(ItemRegistry itemRegistry, HomekitSettings settings, MetadataRegistry metadataRegistry,
             Storage<Object> storage, int instance) {
         this.itemRegistry = itemRegistry;
@@ -289,15 +312,27 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
         try {
             boolean changed = false;
+            int unchanged = 0;
             for (final String name : pendingUpdates) {
+                Optional<Item> item = getItemOptional(name);
+                List<ItemSnapshot> oldFingerprint = fingerprints.get(name);
+                if (oldFingerprint != null && item.isPresent() && oldFingerprint.equals(fingerprint(item.get()))
+                        && accessoryRegistry.getAllAccessories().containsKey(name)) {
+                    // nothing the accessory is built from has changed, keep it on the bridge as it is
+                    logger.trace(" Keep unchanged accessory {}", name);
+                    unchanged++;
+                    continue;
+                }
                 String oldValue = knownAccessories.get(name);
                 accessoryRegistry.remove(name);
+                fingerprints.remove(name);
                 logger.trace(" Add items {}", name);
-                getItemOptional(name).ifPresent(this::createRootAccessories);
+                item.ifPresent(this::createRootAccessories);
                 if (accessoryChanged(name, oldValue)) {
                     changed = true;
                 }
             }
+            logger.debug("Applied {} updates, {} accessories were unchanged", pendingUpdates.size(), unchanged);
             pendingUpdates.clear();
             if (checkMissingAccessories() || changed) {
                 makeNewConfigurationRevision();
@@ -331,6 +366,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public synchronized void clearAccessories() {
         accessoryRegistry.clear();
+        fingerprints.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
@@ -344,6 +380,10 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     public void updateSettings(HomekitSettings settings) {
         boolean wasUsingDummyAccessories = this.settings.useDummyAccessories;
         this.settings = settings;
+        // accessories are built with the settings, so rebuild them on their next update
+        synchronized (this) {
+            fingerprints.clear();
+        }
         // If they turned off dummy accessories, immediately prune them
         if (wasUsingDummyAccessories && !settings.useDummyAccessories) {
             pruneDummyAccessories();
@@ -482,11 +522,54 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                     });
             knownAccessories.put(taggedItem.getName(), accessory.toJson());
             accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            fingerprints.put(taggedItem.getName(), fingerprint(item));
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}: {}", taggedItem, e.getMessage());
         }
     }
 
+    /**
+     * Collects everything a root accessory is built from: the item, the groups deciding whether it is a root accessory
+     * and, for groups, all (nested) members providing the characteristics.
+     *
+     * @param item openHAB item
+     * @return snapshots of the items, equal as long as the accessory would be built the same
+     */
+    private List<ItemSnapshot> fingerprint(Item item) {
+        List<ItemSnapshot> snapshots = new ArrayList<>();
+        snapshots.add(snapshot(item));
+        for (String groupName : item.getGroupNames()) {
+            final @Nullable Item group = itemRegistry.get(groupName);
+            if (group != null) {
+                snapshots.add(snapshot(group));
+            }
+        }
+        if (item instanceof GroupItem groupItem) {
+            Set<String> visited = new HashSet<>();
+            visited.add(item.getName());
+            addMemberSnapshots(groupItem, visited, snapshots);
+        }
+        return snapshots;
+    }
+
+    private void addMemberSnapshots(GroupItem groupItem, Set<String> visited, List<ItemSnapshot> snapshots) {
+        for (Item member : groupItem.getMembers()) {
+            if (visited.add(member.getName())) {
+                snapshots.add(snapshot(member));
+                if (member instanceof GroupItem memberGroup) {
+                    addMemberSnapshots(memberGroup, visited, snapshots);
+                }
+            }
+        }
+    }
+
+    private ItemSnapshot snapshot(Item item) {
+        final @Nullable Metadata metadata = metadataRegistry
+                .get(new MetadataKey(HomekitAccessoryFactory.METADATA_KEY, item.getUID()));
+        return new ItemSnapshot(item, item.getLabel(), item.getCategory(), List.copyOf(item.getGroupNames()),
+                metadata == null ? null : metadata.getValue(), metadata == null ? null : metadata.getConfiguration());
+    }
+
     private boolean itemIsForThisBridge(Item item, @Nullable Map<String, Object> configuration) {
         // non-tagged accessories belong to the first instance
         if (configuration == null) {
@@ -99,6 +99,12 @@ public class ConfigStore {
             .registerTypeAdapter(HueSuccessResponseStateChanged.class, new HueSuccessResponseStateChanged.Serializer())
             .registerTypeAdapter(HueGroupEntry.class, new HueGroupEntry.Serializer(this)).create();
 
+    /**
+     * The serialized lights and groups, served to clients polling all of them
+     */
+    public final JsonSnapshot lightsSnapshot = new JsonSnapshot();
+    public final JsonSnapshot groupsSnapshot = new JsonSnapshot();
+
     @Reference
     protected @NonNullByDefault({}) ConfigurationAdmin configAdmin;
 
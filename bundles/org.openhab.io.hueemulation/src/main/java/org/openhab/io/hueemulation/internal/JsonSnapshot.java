@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The serialized JSON of an endpoint, which is only serialized again if anything it is serialized from has changed.
+ * <p>
+ * The caller describes the current content by a key, a list of the values the JSON is serialized from. Objects which
+ * are replaced rather than modified, like items and states, can be wrapped with {@link #identity(Object)} to compare
+ * them by reference. Every serialization gets a new entity tag, so clients can poll with If-None-Match.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class JsonSnapshot {
+    /**
+     * Serialized content and its entity tag
+     */
+    public record Content(byte[] json, String etag) {
+    }
+
+    private record Identity(@Nullable Object object) {
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof Identity other && object == other.object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+
+    // entity tags must not repeat after a restart
+    private final String instance = Long.toHexString(System.currentTimeMillis());
+    private long version;
+    private @Nullable List<Object> key;
+    private @Nullable Content content;
+
+    /**
+     * Wraps an object to be compared by reference in a key.
+     */
+    public static Object identity(@Nullable Object object) {
+        return new Identity(object);
+    }
+
+    /**
+     * Gets the content, serializing it if the key changed since the last call.
+     *
+     * @param key the values the content is serialized from
+     * @param serializer serializes the content
+     * @return the content
+     */
+    public synchronized Content get(List<Object> key, Supplier<String> serializer) {
+        Content content = this.content;
+        if (content == null || !key.equals(this.key)) {
+            version++;
+            content = new Content(serializer.get().getBytes(StandardCharsets.UTF_8), instance + "-" + version);
+            this.content = content;
+            this.key = key;
+        }
+        return content;
+    }
+}
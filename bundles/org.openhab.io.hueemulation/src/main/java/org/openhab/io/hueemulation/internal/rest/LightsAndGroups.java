@@ -14,6 +14,8 @@ package org.openhab.io.hueemulation.internal.rest;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -26,8 +28,11 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -44,6 +49,7 @@ import org.openhab.core.types.Command;
 import org.openhab.io.hueemulation.internal.ConfigStore;
 import org.openhab.io.hueemulation.internal.DeviceType;
 import org.openhab.io.hueemulation.internal.HueEmulationService;
+import org.openhab.io.hueemulation.internal.JsonSnapshot;
 import org.openhab.io.hueemulation.internal.NetworkUtils;
 import org.openhab.io.hueemulation.internal.StateUtils;
 import org.openhab.io.hueemulation.internal.dto.HueGroupEntry;
@@ -247,12 +253,23 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        List<Object> key = new ArrayList<>();
+        for (Entry<String, HueLightEntry> entry : cs.ds.lights.entrySet()) {
+            HueLightEntry light = entry.getValue();
+            key.add(entry.getKey());
+            key.add(JsonSnapshot.identity(light));
+            key.add(JsonSnapshot.identity(light.item));
+            key.add(light.item.getState());
+            key.add(Objects.requireNonNullElse(light.item.getLabel(), light.name));
+            key.add(JsonSnapshot.identity(light.lastCommand));
+            key.add(JsonSnapshot.identity(light.lastHueChange));
+        }
+        return snapshotResponse(request, cs.lightsSnapshot.get(key, () -> cs.gson.toJson(cs.ds.lights)));
     }
 
     @GET
@@ -438,12 +455,41 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllGroupsApi(@Context UriInfo uri,
+    public Response getAllGroupsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        List<Object> key = new ArrayList<>();
+        for (Entry<String, HueGroupEntry> entry : cs.ds.groups.entrySet()) {
+            HueGroupEntry group = entry.getValue();
+            key.add(entry.getKey());
+            key.add(JsonSnapshot.identity(group));
+            key.add(JsonSnapshot.identity(group.action));
+            key.add(group.name);
+            key.add(group.type);
+            key.add(group.roomclass);
+            GroupItem groupItem = group.groupItem;
+            if (groupItem != null) {
+                key.add(JsonSnapshot.identity(groupItem));
+                groupItem.getMembers().forEach(member -> key.add(member.getUID()));
+            } else {
+                key.add(JsonSnapshot.identity(group.lights));
+            }
+        }
+        return snapshotResponse(request, cs.groupsSnapshot.get(key, () -> cs.gson.toJson(cs.ds.groups)));
+    }
+
+    /**
+     * Responds with the snapshot, or with 304 Not Modified if the client already has it.
+     */
+    private Response snapshotResponse(Request request, JsonSnapshot.Content content) {
+        EntityTag etag = new EntityTag(content.etag());
+        ResponseBuilder builder = request.evaluatePreconditions(etag);
+        if (builder == null) {
+            builder = Response.ok(content.json());
+        }
+        return builder.tag(etag).build();
     }
 
     @GET
@@ -39,6 +39,7 @@ import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -58,6 +59,7 @@ import io.socket.engineio.client.Transport;
 import io.socket.engineio.client.transports.WebSocket;
 import io.socket.parser.Packet;
 import io.socket.parser.Parser;
+import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
@@ -83,6 +85,15 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    /*
+     * Proxied response content is not read from openHAB while more bytes than this wait to be sent to the cloud
+     */
+    private static final long SEND_QUEUE_HIGH_WATER = 1024 * 1024;
+
+    private static final long SEND_QUEUE_LOW_WATER = 256 * 1024;
+
+    private static final long SEND_QUEUE_POLL_INTERVAL = 10;
+
     /*
      * Logger for this class
      */
@@ -129,6 +140,11 @@ public class CloudClient {
      */
     private Socket socket;
 
+    /*
+     * The web socket of the current Socket.IO connection, used to check how many bytes wait to be sent
+     */
+    private volatile okhttp3.@Nullable WebSocket webSocket;
+
     /*
      * The protocol of the openHAB-cloud URL.
      */
@@ -154,6 +170,11 @@ public class CloudClient {
     protected final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
+    /*
+     * Coalesces the item updates sent to the openHAB Cloud
+     */
+    private final ItemUpdateBuffer itemUpdateBuffer;
+
     @SuppressWarnings("null")
     private final AtomicReference<Optional<ScheduledFuture<?>>> reconnectFuture = new AtomicReference<>(
             Optional.empty());
@@ -165,9 +186,10 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param itemUpdateWindow Time in milliseconds item updates are collected before they are sent as one batch
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, long itemUpdateWindow) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
@@ -175,6 +197,7 @@ public class CloudClient {
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
         this.jettyClient = httpClient;
+        this.itemUpdateBuffer = new ItemUpdateBuffer(scheduler, itemUpdateWindow, this::sendItemUpdates);
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
         reconnectBackoff.setJitter(RECONNECT_JITTER);
@@ -204,8 +227,13 @@ public class CloudClient {
                 okHttpBuilder.addInterceptor(loggingInterceptor);
                 okHttpBuilder.addNetworkInterceptor(loggingInterceptor);
             }
-            options.callFactory = okHttpBuilder.build();
-            options.webSocketFactory = okHttpBuilder.build();
+            OkHttpClient okHttpClient = okHttpBuilder.build();
+            options.callFactory = okHttpClient;
+            options.webSocketFactory = (request, listener) -> {
+                okhttp3.WebSocket newWebSocket = okHttpClient.newWebSocket(request, listener);
+                webSocket = newWebSocket;
+                return newWebSocket;
+            };
             socket = IO.socket(baseURL, options);
             URL parsed = new URL(baseURL);
             protocol = parsed.getProtocol();
@@ -368,6 +396,7 @@ public class CloudClient {
         logger.info("Connected to the openHAB Cloud service (UUID = {}, base URL = {})", censored(this.uuid),
                 this.localBaseUrl);
         reconnectBackoff.reset();
+        itemUpdateBuffer.reset();
         isConnected = true;
     }
 
@@ -418,9 +447,11 @@ public class CloudClient {
             // Get JSONObject for request headers
             JSONObject requestHeadersJson = data.getJSONObject("headers");
             logger.debug("Headers: {}", requestHeadersJson.toString());
-            // Get request body
-            String requestBody = data.getString("body");
-            logger.trace("Body {}", requestBody);
+            // Get request body, sent as string or as binary attachment
+            Object requestBodyObject = data.get("body");
+            byte[] requestBody = requestBodyObject instanceof byte[] bytes ? bytes
+                    : requestBodyObject.toString().getBytes(StandardCharsets.UTF_8);
+            logger.trace("Body length {}", requestBody.length);
             // Get JSONObject for request query parameters
             JSONObject requestQueryJson = data.getJSONObject("query");
             logger.debug("Query {}", requestQueryJson.toString());
@@ -457,8 +488,8 @@ public class CloudClient {
                 return;
             }
             request.method(method);
-            if (!requestBody.isEmpty()) {
-                request.content(new BytesContentProvider(requestBody.getBytes()));
+            if (requestBody.length > 0) {
+                request.content(new BytesContentProvider(requestBody));
             }
 
             request.onResponseHeaders(response -> {
@@ -475,7 +506,7 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).onResponseContent((theResponse, content) -> {
+            }).onResponseContentAsync((theResponse, content, callback) -> {
                 logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
                 JSONObject responseJson = new JSONObject();
                 try {
@@ -489,6 +520,8 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
+                // only read further content once the socket has caught up
+                awaitSendQueue(requestId, callback);
             }).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
@@ -533,6 +566,35 @@ public class CloudClient {
         }
     }
 
+    /**
+     * Completes the callback once the bytes waiting to be sent to the openHAB Cloud drop below the low water mark,
+     * right away if they don't exceed the high water mark. This keeps large proxied responses from piling up in
+     * memory when the connection to the cloud is slower than the local one.
+     */
+    private void awaitSendQueue(int requestId, Callback callback) {
+        okhttp3.WebSocket localWebSocket = webSocket;
+        if (localWebSocket == null || localWebSocket.queueSize() <= SEND_QUEUE_HIGH_WATER) {
+            callback.succeeded();
+            return;
+        }
+        logger.trace("Send queue full, pausing response to request {}", requestId);
+        pollSendQueue(requestId, localWebSocket, callback);
+    }
+
+    private void pollSendQueue(int requestId, okhttp3.WebSocket pausedWebSocket, Callback callback) {
+        scheduler.schedule(() -> {
+            if (!isConnected() || pausedWebSocket != webSocket) {
+                callback.failed(new IOException("Connection to openHAB Cloud lost"));
+            } else if (!runningRequests.containsKey(requestId)
+                    || pausedWebSocket.queueSize() <= SEND_QUEUE_LOW_WATER) {
+                logger.trace("Resuming response to request {}", requestId);
+                callback.succeeded();
+            } else {
+                pollSendQueue(requestId, pausedWebSocket, callback);
+            }
+        }, SEND_QUEUE_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
     private void setRequestHeaders(Request request, JSONObject requestHeadersJson) {
         Iterator<String> headersIterator = requestHeadersJson.keys();
         // Convert JSONObject of headers into Header ArrayList
@@ -760,26 +822,55 @@ public class CloudClient {
     /**
      * Send item update to openHAB Cloud
      *
+     * Updates are coalesced per item and skipped if the state has not changed, see {@link ItemUpdateBuffer}.
+     *
      * @param itemName the name of the item
      * @param itemState updated item state
      *
      */
     public void sendItemUpdate(String itemName, String itemState) {
-        if (isConnected()) {
-            logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
-            JSONObject itemUpdateMessage = new JSONObject();
-            try {
-                itemUpdateMessage.put("itemName", itemName);
-                itemUpdateMessage.put("itemStatus", itemState);
-                socket.emit("itemupdate", itemUpdateMessage);
-            } catch (JSONException e) {
-                logger.debug("{}", e.getMessage());
-            }
-        } else {
+        itemUpdateBuffer.add(itemName, itemState);
+    }
+
+    /**
+     * Returns the buffer of the item updates, e.g. to read its counters
+     */
+    public ItemUpdateBuffer getItemUpdateBuffer() {
+        return itemUpdateBuffer;
+    }
+
+    private boolean sendItemUpdates(Map<String, String> itemUpdates) {
+        if (!isConnected()) {
             logger.debug("No connection, Item update is not sent");
+            return false;
+        }
+        try {
+            if (itemUpdates.size() == 1) {
+                Map.Entry<String, String> itemUpdate = itemUpdates.entrySet().iterator().next();
+                logger.debug("Sending update '{}' for item '{}'", itemUpdate.getValue(), itemUpdate.getKey());
+                socket.emit("itemupdate", createItemUpdateMessage(itemUpdate.getKey(), itemUpdate.getValue()));
+            } else {
+                logger.debug("Sending updates for {} items", itemUpdates.size());
+                JSONArray itemUpdatesMessage = new JSONArray();
+                for (Map.Entry<String, String> itemUpdate : itemUpdates.entrySet()) {
+                    itemUpdatesMessage.put(createItemUpdateMessage(itemUpdate.getKey(), itemUpdate.getValue()));
+                }
+                socket.emit("itemupdates", itemUpdatesMessage);
+            }
+            return true;
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+            return false;
         }
     }
 
+    private JSONObject createItemUpdateMessage(String itemName, String itemState) throws JSONException {
+        JSONObject itemUpdateMessage = new JSONObject();
+        itemUpdateMessage.put("itemName", itemName);
+        itemUpdateMessage.put("itemStatus", itemState);
+        return itemUpdateMessage;
+    }
+
     /**
      * Returns true if openHAB Cloud connection is active
      */
@@ -793,6 +884,9 @@ public class CloudClient {
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
         reconnectFuture.get().ifPresent(future -> future.cancel(true));
+        itemUpdateBuffer.shutdown();
+        logger.debug("Item updates: {} queued, {} sent, {} dropped", itemUpdateBuffer.getQueuedCount(),
+                itemUpdateBuffer.getSentCount(), itemUpdateBuffer.getDroppedCount());
         socket.disconnect();
     }
 
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers item updates sent to the openHAB Cloud.
+ *
+ * Updates are collected for a configurable window, keeping only the last state of every item, and are then handed
+ * to the sender as one batch. States equal to the last state sent for an item are skipped, also with a window of 0,
+ * which hands every other update to the sender right away.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class ItemUpdateBuffer {
+    private final Logger logger = LoggerFactory.getLogger(ItemUpdateBuffer.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+    private final Predicate<Map<String, String>> sender;
+
+    private final Map<String, String> lastSent = new HashMap<>();
+    private Map<String, String> pending = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param scheduler the scheduler used to send the buffered updates
+     * @param windowMillis the time in milliseconds updates are collected before they are sent
+     * @param sender sends a batch of item names and states, returns false if they could not be sent
+     */
+    public ItemUpdateBuffer(ScheduledExecutorService scheduler, long windowMillis,
+            Predicate<Map<String, String>> sender) {
+        this.scheduler = scheduler;
+        this.windowMillis = Math.max(0, windowMillis);
+        this.sender = sender;
+    }
+
+    /**
+     * Adds an item update, replacing a pending update of the same item.
+     *
+     * @param itemName the name of the item
+     * @param itemState the updated state
+     */
+    public void add(String itemName, String itemState) {
+        Map<String, String> batch = null;
+        synchronized (this) {
+            queued.increment();
+            if (pending.put(itemName, itemState) != null) {
+                dropped.increment();
+            }
+            if (windowMillis == 0) {
+                batch = take();
+            } else if (flushJob == null) {
+                flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Sends all pending updates.
+     */
+    public void flush() {
+        Map<String, String> batch;
+        synchronized (this) {
+            flushJob = null;
+            batch = take();
+        }
+        send(batch);
+    }
+
+    /**
+     * Forgets the states sent so far, so the next update of every item is sent. Used when the connection is
+     * (re-)established.
+     */
+    public synchronized void reset() {
+        lastSent.clear();
+    }
+
+    /**
+     * Drops all pending updates.
+     */
+    public synchronized void shutdown() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        dropped.add(pending.size());
+        pending = new LinkedHashMap<>();
+        lastSent.clear();
+    }
+
+    /**
+     * Get the number of updates added to the buffer.
+     */
+    public long getQueuedCount() {
+        return queued.sum();
+    }
+
+    /**
+     * Get the number of updates sent.
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * Get the number of updates which were replaced by a later update, unchanged or could not be sent.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // callers synchronize on this object
+    private Map<String, String> take() {
+        Map<String, String> batch = new LinkedHashMap<>();
+        pending.forEach((itemName, itemState) -> {
+            if (itemState.equals(lastSent.get(itemName))) {
+                dropped.increment();
+            } else {
+                batch.put(itemName, itemState);
+            }
+        });
+        pending = new LinkedHashMap<>();
+        lastSent.putAll(batch);
+        return batch;
+    }
+
+    private void send(Map<String, String> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (sender.test(batch)) {
+            sent.add(batch.size());
+        } else {
+            dropped.add(batch.size());
+            synchronized (this) {
+                // send the next update of these items, even if it is unchanged
+                batch.forEach(lastSent::remove);
+            }
+        }
+        logger.trace("Item updates: {} queued, {} sent, {} dropped", queued.sum(), sent.sum(), dropped.sum());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ItemUpdateBuffer}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class ItemUpdateBufferTest {
+
+    // long enough to never run during a test, the buffers are flushed explicitly
+    private static final long WINDOW_MILLIS = 3600000;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<Map<String, String>> batches = new ArrayList<>();
+    private boolean failing;
+
+    private ItemUpdateBuffer buffer(long windowMillis) {
+        return new ItemUpdateBuffer(scheduler, windowMillis, batch -> {
+            batches.add(Map.copyOf(batch));
+            return !failing;
+        });
+    }
+
+    private void assertCounts(ItemUpdateBuffer buffer, long queued, long sent, long dropped) {
+        assertEquals(queued, buffer.getQueuedCount());
+        assertEquals(sent, buffer.getSentCount());
+        assertEquals(dropped, buffer.getDroppedCount());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void updatesWithinWindowAreCoalesced() {
+        ItemUpdateBuffer buffer = buffer(WINDOW_MILLIS);
+        buffer.add("A", "1");
+        buffer.add("B", "1");
+        buffer.add("A", "2");
+        assertEquals(List.of(), batches);
+
+        buffer.flush();
+        assertEquals(List.of(Map.of("A", "2", "B", "1")), batches);
+        assertCounts(buffer, 3, 2, 1);
+    }
+
+    @Test
+    public void unchangedStatesAreSkippedWithoutWindow() {
+        ItemUpdateBuffer buffer = buffer(0);
+        buffer.add("A", "1");
+        buffer.add("A", "1");
+        buffer.add("B", "1");
+        buffer.add("A", "2");
+
+        assertEquals(List.of(Map.of("A", "1"), Map.of("B", "1"), Map.of("A", "2")), batches);
+        assertCounts(buffer, 4, 3, 1);
+    }
+
+    @Test
+    public void unchangedStatesAreSkippedWithinWindow() {
+        ItemUpdateBuffer buffer = buffer(WINDOW_MILLIS);
+        buffer.add("A", "1");
+        buffer.flush();
+        buffer.add("A", "1");
+        buffer.add("B", "1");
+        buffer.flush();
+
+        assertEquals(List.of(Map.of("A", "1"), Map.of("B", "1")), batches);
+        assertCounts(buffer, 3, 2, 1);
+    }
+
+    @Test
+    public void resetSendsUnchangedStatesAgain() {
+        ItemUpdateBuffer buffer = buffer(0);
+        buffer.add("A", "1");
+        buffer.reset();
+        buffer.add("A", "1");
+
+        assertEquals(List.of(Map.of("A", "1"), Map.of("A", "1")), batches);
+        assertCounts(buffer, 2, 2, 0);
+    }
+
+    @Test
+    public void failedSendSendsUnchangedStatesAgain() {
+        ItemUpdateBuffer buffer = buffer(0);
+        failing = true;
+        buffer.add("A", "1");
+        failing = false;
+        buffer.add("A", "1");
+        buffer.add("A", "1");
+
+        assertEquals(List.of(Map.of("A", "1"), Map.of("A", "1")), batches);
+        assertCounts(buffer, 3, 1, 2);
+    }
+
+    @Test
+    public void shutdownDropsPendingUpdates() {
+        ItemUpdateBuffer buffer = buffer(WINDOW_MILLIS);
+        buffer.add("A", "1");
+        buffer.add("B", "1");
+        buffer.shutdown();
+
+        buffer.flush();
+        assertEquals(List.of(), batches);
+        assertCounts(buffer, 2, 0, 2);
+    }
+}
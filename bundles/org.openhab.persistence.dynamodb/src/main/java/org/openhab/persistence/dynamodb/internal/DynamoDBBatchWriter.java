@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * Aggregates puts into BatchWriteItem calls
+ *
+ * Items are collected per table and written as soon as {@value #MAX_BATCH_SIZE} items (the maximum accepted by
+ * DynamoDB) are pending, or {@value #LINGER_MILLIS} ms after the first pending item was added. Items that DynamoDB
+ * reports as unprocessed, e.g. due to throttling, are retried with exponential backoff.
+ *
+ * DynamoDB rejects a batch containing the same key twice, so a pending item replaces a pending item of the same name
+ * and time (in milliseconds, the precision of the stored time).
+ *
+ * BatchWriteItem does not create missing tables. If the table does not exist, the first item is written using
+ * {@link TableCreatingPutItem}, which creates the table, and the rest of the batch is written afterwards.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriter {
+    static final int MAX_BATCH_SIZE = 25;
+    static final long LINGER_MILLIS = 100;
+    private static final int MAX_RETRIES = 8;
+    private static final long INITIAL_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 5000;
+
+    private final Logger logger = LoggerFactory.getLogger(DynamoDBBatchWriter.class);
+
+    private final DynamoDBPersistenceService service;
+    private final ExecutorService executor;
+    private final Map<DynamoDbAsyncTable<?>, PendingPuts<?>> pendingPuts = new ConcurrentHashMap<>(2);
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+
+    public DynamoDBBatchWriter(DynamoDBPersistenceService service) {
+        this(service, service.getExecutor());
+    }
+
+    DynamoDBBatchWriter(DynamoDBPersistenceService service, ExecutorService executor) {
+        this.service = service;
+        this.executor = executor;
+    }
+
+    /**
+     * Queue item to be written to the table
+     *
+     * @param dto item to write
+     * @param table table to write to
+     */
+    public <T extends DynamoDBItem<?>> void put(T dto, DynamoDbAsyncTable<T> table) {
+        @SuppressWarnings("unchecked") // OK since the table determines the DTO class
+        PendingPuts<T> puts = (PendingPuts<T>) pendingPuts.computeIfAbsent(table, t -> new PendingPuts<>(table));
+        List<T> batch = null;
+        boolean first;
+        synchronized (puts) {
+            first = puts.items.isEmpty();
+            puts.items.put(new ItemKey(dto.getName(), dto.getTime().toInstant().toEpochMilli()), dto);
+            if (puts.items.size() >= MAX_BATCH_SIZE) {
+                batch = puts.take();
+            }
+        }
+        if (batch != null) {
+            track(write(puts.table, batch, 0));
+        } else if (first) {
+            CompletableFuture.runAsync(() -> flush(puts),
+                    CompletableFuture.delayedExecutor(LINGER_MILLIS, TimeUnit.MILLISECONDS, executor));
+        }
+    }
+
+    /**
+     * Write all pending items
+     *
+     * @return future completing once all pending items and all writes already in progress have been written,
+     *         including retries
+     */
+    public CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        pendingPuts.values().forEach(puts -> writes.add(flush(puts)));
+        writes.addAll(inFlight);
+        return CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new));
+    }
+
+    private <T extends DynamoDBItem<?>> CompletableFuture<Void> flush(PendingPuts<T> puts) {
+        List<T> items;
+        synchronized (puts) {
+            items = puts.take();
+        }
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += MAX_BATCH_SIZE) {
+            writes.add(track(write(puts.table, items.subList(i, Math.min(items.size(), i + MAX_BATCH_SIZE)), 0)));
+        }
+        return CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new));
+    }
+
+    private CompletableFuture<Void> track(CompletableFuture<Void> write) {
+        inFlight.add(write);
+        write.whenComplete((result, exception) -> inFlight.remove(write));
+        return write;
+    }
+
+    private <T extends DynamoDBItem<?>> CompletableFuture<Void> write(DynamoDbAsyncTable<T> table, List<T> items,
+            int attempt) {
+        DynamoDbEnhancedAsyncClient client = service.getClient();
+        if (client == null) {
+            logger.warn("BatchWriteItem: not connected, {} items not stored to table {}", items.size(),
+                    table.tableName());
+            return CompletableFuture.completedFuture(null);
+        }
+        Instant start = Instant.now();
+        return batchWriteItem(client, table, items).handleAsync((unprocessed, exception) -> {
+            if (exception == null) {
+                logger.trace("BatchWriteItem: {} of {} items written to table {} in {} ms",
+                        items.size() - unprocessed.size(), items.size(), table.tableName(),
+                        Duration.between(start, Instant.now()).toMillis());
+                return unprocessed.isEmpty() ? CompletableFuture.<Void> completedFuture(null)
+                        : retry(table, unprocessed, attempt);
+            }
+            Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                    ? exception.getCause()
+                    : exception;
+            if (cause instanceof ResourceNotFoundException && attempt < MAX_RETRIES) {
+                logger.trace("BatchWriteItem: Table '{}' was not present. Creating it with the first item",
+                        table.tableName());
+                return createTableAndWrite(table, items, attempt);
+            } else if (cause instanceof SdkException sdkException && sdkException.retryable()) {
+                return retry(table, items, attempt);
+            }
+            logger.warn("BatchWriteItem: failed (final) with {} {}. {} items not stored.",
+                    cause.getClass().getSimpleName(), cause.getMessage(), items.size());
+            return CompletableFuture.<Void> completedFuture(null);
+        }, executor).thenCompose(future -> future);
+    }
+
+    /**
+     * Writes the items with one BatchWriteItem call
+     *
+     * @return future completing with the items DynamoDB did not process
+     */
+    <T extends DynamoDBItem<?>> CompletableFuture<List<T>> batchWriteItem(DynamoDbEnhancedAsyncClient client,
+            DynamoDbAsyncTable<T> table, List<T> items) {
+        WriteBatch.Builder<T> writeBatch = WriteBatch.builder(table.tableSchema().itemType().rawClass())
+                .mappedTableResource(table);
+        items.forEach(writeBatch::addPutItem);
+        return client.batchWriteItem(BatchWriteItemEnhancedRequest.builder().addWriteBatch(writeBatch.build()).build())
+                .thenApply(result -> result.unprocessedPutItemsForTable(table));
+    }
+
+    private <T extends DynamoDBItem<?>> CompletableFuture<Void> retry(DynamoDbAsyncTable<T> table, List<T> items,
+            int attempt) {
+        if (attempt >= MAX_RETRIES) {
+            logger.warn("BatchWriteItem: giving up after {} retries. {} items not stored to table {}.", attempt,
+                    items.size(), table.tableName());
+            return CompletableFuture.completedFuture(null);
+        }
+        // exponential backoff with jitter
+        long backoff = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << attempt);
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        logger.trace("BatchWriteItem: retrying {} items in {} ms", items.size(), delay);
+        return CompletableFuture
+                .supplyAsync(() -> write(table, items, attempt + 1),
+                        CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor))
+                .thenCompose(future -> future);
+    }
+
+    private <T extends DynamoDBItem<?>> CompletableFuture<Void> createTableAndWrite(DynamoDbAsyncTable<T> table,
+            List<T> items, int attempt) {
+        CompletableFuture<Void> firstPut;
+        try {
+            firstPut = new TableCreatingPutItem<>(service, items.get(0), table).putItemAsync();
+        } catch (IllegalStateException e) {
+            logger.warn("BatchWriteItem: service not ready, {} items not stored.", items.size());
+            return CompletableFuture.completedFuture(null);
+        }
+        List<T> rest = items.subList(1, items.size());
+        return firstPut.handleAsync((result, exception) -> {
+            if (exception != null) {
+                // TableCreatingPutItem logs the failure
+                logger.debug("BatchWriteItem: table creation failed. {} items not stored.", items.size());
+                return CompletableFuture.<Void> completedFuture(null);
+            }
+            return rest.isEmpty() ? CompletableFuture.<Void> completedFuture(null) : write(table, rest, attempt + 1);
+        }, executor).thenCompose(future -> future);
+    }
+
+    private record ItemKey(String name, long epochMilli) {
+    }
+
+    private static class PendingPuts<T extends DynamoDBItem<?>> {
+        private final DynamoDbAsyncTable<T> table;
+        private Map<ItemKey, T> items = new LinkedHashMap<>();
+
+        private PendingPuts(DynamoDbAsyncTable<T> table) {
+            this.table = table;
+        }
+
+        // callers synchronize on this object
+        private List<T> take() {
+            List<T> taken = new ArrayList<>(items.values());
+            items = new LinkedHashMap<>();
+            return taken;
+        }
+    }
+}
@@ -28,6 +28,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import javax.measure.Unit;
@@ -117,6 +119,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     private static final Duration TIMEOUT_API_CALL_ATTEMPT = Duration.ofSeconds(5);
     private Map<Class<? extends DynamoDBItem<?>>, DynamoDbAsyncTable<? extends DynamoDBItem<?>>> tableCache = new ConcurrentHashMap<>(
             2);
+    private final DynamoDBBatchWriter batchWriter = new DynamoDBBatchWriter(this);
 
     private @Nullable URI endpointOverride;
 
@@ -157,6 +160,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         return endpointOverride;
     }
 
+    @Nullable
+    DynamoDbEnhancedAsyncClient getClient() {
+        return client;
+    }
+
     @Nullable
     DynamoDbAsyncClient getLowLevelClient() {
         return lowLevelClient;
@@ -205,9 +213,23 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     public void deactivate() {
         logger.debug("dynamodb persistence service deactivated");
         logIfManyQueuedTasks();
+        flushPendingWrites();
         disconnect();
     }
 
+    /**
+     * Writes the items still waiting in the batch writer, so they are stored before a query or shutdown
+     */
+    private void flushPendingWrites() {
+        try {
+            batchWriter.flush().get(TIMEOUT_API_CALL.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Writing pending items failed: {} {}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
     /**
      * Initializes Dynamo DB client and determines schema
      *
@@ -369,6 +391,8 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             logger.warn("DynamoDB not connected. Returning empty query results.");
             return Collections.emptyList();
         }
+        // queries have to see the items stored before
+        flushPendingWrites();
 
         //
         // Resolve unclear table schema if needed
@@ -566,21 +590,20 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             }
             logger.trace("store() called with item {} {} '{}', which was converted to DTO {}",
                     copiedItem.getClass().getSimpleName(), effectiveName, copiedItem.getState(), dto);
-            dto.accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
+            dto.accept(new DynamoDBItemVisitor<@Nullable Void>() {
 
                 @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(
-                        DynamoDBBigDecimalItem dynamoBigDecimalItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoBigDecimalItem,
-                            getTable(DynamoDBBigDecimalItem.class));
+                public @Nullable Void visit(DynamoDBBigDecimalItem dynamoBigDecimalItem) {
+                    batchWriter.put(dynamoBigDecimalItem, getTable(DynamoDBBigDecimalItem.class));
+                    return null;
                 }
 
                 @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(DynamoDBStringItem dynamoStringItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoStringItem,
-                            getTable(DynamoDBStringItem.class));
+                public @Nullable Void visit(DynamoDBStringItem dynamoStringItem) {
+                    batchWriter.put(dynamoStringItem, getTable(DynamoDBStringItem.class));
+                    return null;
                 }
-            }).putItemAsync();
+            });
         }, executor).exceptionally(e -> {
             logger.error("Unexcepted error", e);
             return null;
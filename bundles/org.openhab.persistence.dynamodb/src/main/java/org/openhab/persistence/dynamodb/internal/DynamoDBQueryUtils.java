@@ -38,6 +38,9 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
  */
 @NonNullByDefault
 public class DynamoDBQueryUtils {
+    // DynamoDB returns at most 1 MB per request anyway
+    private static final int MAX_QUERY_LIMIT = 1000;
+
     /**
      * Construct dynamodb query from filter
      *
@@ -108,13 +111,17 @@ public class DynamoDBQueryUtils {
      * items, and the results are paginated. Since the final openHAB pagination is done in the persistence service, the
      * pagination of the DynamoDB remains as a hidden implementation detail.
      *
+     * The limit covers all items up to the requested page, since the preceding pages have to be read (and skipped)
+     * as well. This way a page is usually read with a single request instead of one request per preceding page.
+     *
      * @param queryBuilder builder for DynamoDB query
      * @param filter openHAB filter
      */
     private static void addLimit(QueryEnhancedRequest.Builder queryBuilder, final FilterCriteria filter) {
         boolean pageSizeSpecified = filter.getPageSize() != Integer.MAX_VALUE;
         if (pageSizeSpecified) {
-            queryBuilder.limit(filter.getPageSize());
+            long itemsToRead = (long) filter.getPageSize() * (filter.getPageNumber() + 1);
+            queryBuilder.limit((int) Math.min(itemsToRead, MAX_QUERY_LIMIT));
         }
     }
 
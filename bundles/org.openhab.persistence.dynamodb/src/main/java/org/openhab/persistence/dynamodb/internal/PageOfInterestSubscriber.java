@@ -57,7 +57,8 @@ public class PageOfInterestSubscriber<T> implements Subscriber<T> {
     public void onSubscribe(@Nullable Subscription subscription) {
         this.subscription = subscription;
         if (subscription != null) {
-            subscription.request(pageSize * (pageIndex + 1));
+            // in long arithmetic, the page size is Integer.MAX_VALUE if not set
+            subscription.request(Math.max(1, (long) pageSize * (pageIndex + 1)));
         }
     }
 
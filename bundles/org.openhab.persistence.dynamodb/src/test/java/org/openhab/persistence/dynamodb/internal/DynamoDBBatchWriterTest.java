@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+
+/**
+ *
+ * @author Snickermicker - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriterTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final DynamoDBPersistenceService service = mock(DynamoDBPersistenceService.class);
+    @SuppressWarnings("unchecked")
+    private final DynamoDbAsyncTable<DynamoDBBigDecimalItem> table = mock(DynamoDbAsyncTable.class);
+    private final RecordingBatchWriter writer = new RecordingBatchWriter();
+
+    /**
+     * Records the batches instead of calling DynamoDB
+     */
+    private class RecordingBatchWriter extends DynamoDBBatchWriter {
+        private final List<List<DynamoDBItem<?>>> batches = new CopyOnWriteArrayList<>();
+        // responses of the next calls, completing with the number of unprocessed items at the end of the batch
+        private final Queue<CompletableFuture<Integer>> responses = new ArrayDeque<>();
+
+        RecordingBatchWriter() {
+            super(service, executor);
+        }
+
+        @Override
+        <T extends DynamoDBItem<?>> CompletableFuture<List<T>> batchWriteItem(DynamoDbEnhancedAsyncClient client,
+                DynamoDbAsyncTable<T> table, List<T> items) {
+            batches.add(List.copyOf(items));
+            CompletableFuture<Integer> response;
+            synchronized (responses) {
+                response = responses.poll();
+            }
+            if (response == null) {
+                return CompletableFuture.completedFuture(List.of());
+            }
+            return response
+                    .thenApply(unprocessed -> List.copyOf(items.subList(items.size() - unprocessed, items.size())));
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        when(service.getClient()).thenReturn(mock(DynamoDbEnhancedAsyncClient.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private List<DynamoDBBigDecimalItem> items(int count) {
+        List<DynamoDBBigDecimalItem> items = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.now();
+        for (int i = 0; i < count; i++) {
+            items.add(new DynamoDBBigDecimalItem("item", BigDecimal.valueOf(i), time.plusSeconds(i), null));
+        }
+        return items;
+    }
+
+    @Test
+    public void testItemsAreSplitIntoBatches() throws Exception {
+        List<DynamoDBBigDecimalItem> items = items(2 * DynamoDBBatchWriter.MAX_BATCH_SIZE + 10);
+        items.forEach(item -> writer.put(item, table));
+        // full batches are written right away
+        assertEquals(2, writer.batches.size());
+
+        writer.flush().get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(DynamoDBBatchWriter.MAX_BATCH_SIZE, DynamoDBBatchWriter.MAX_BATCH_SIZE, 10),
+                writer.batches.stream().map(List::size).toList());
+        assertEquals(items, writer.batches.stream().flatMap(List::stream).toList());
+    }
+
+    @Test
+    public void testUnprocessedItemsAreRetried() throws Exception {
+        writer.responses.add(CompletableFuture.completedFuture(3));
+        writer.responses.add(CompletableFuture.completedFuture(1));
+        List<DynamoDBBigDecimalItem> items = items(5);
+        items.forEach(item -> writer.put(item, table));
+
+        writer.flush().get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(items, items.subList(2, 5), items.subList(4, 5)), writer.batches);
+    }
+
+    @Test
+    public void testPendingItemWithSameKeyIsReplaced() throws Exception {
+        ZonedDateTime time = ZonedDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        DynamoDBBigDecimalItem replaced = new DynamoDBBigDecimalItem("item", BigDecimal.ONE, time, null);
+        DynamoDBBigDecimalItem other = new DynamoDBBigDecimalItem("other", BigDecimal.ONE, time, null);
+        // the time is stored in milliseconds, so both items have the same key
+        DynamoDBBigDecimalItem last = new DynamoDBBigDecimalItem("item", BigDecimal.TEN, time.plusNanos(1000), null);
+        writer.put(replaced, table);
+        writer.put(other, table);
+        writer.put(last, table);
+
+        writer.flush().get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(List.of(last, other)), writer.batches);
+    }
+
+    @Test
+    public void testFlushOnDeactivateWaitsForPendingAndRunningWrites() throws Exception {
+        CompletableFuture<Integer> running = new CompletableFuture<>();
+        writer.responses.add(running);
+        List<DynamoDBBigDecimalItem> items = items(DynamoDBBatchWriter.MAX_BATCH_SIZE + 1);
+        items.forEach(item -> writer.put(item, table));
+        assertEquals(1, writer.batches.size());
+
+        // the deactivated service flushes without waiting for the linger time
+        CompletableFuture<Void> flushed = writer.flush();
+        assertEquals(2, writer.batches.size());
+        assertThrows(TimeoutException.class, () -> flushed.get(200, TimeUnit.MILLISECONDS));
+
+        running.complete(0);
+        flushed.get(5, TimeUnit.SECONDS);
+        assertEquals(items, writer.batches.stream().flatMap(List::stream).toList());
+    }
+}
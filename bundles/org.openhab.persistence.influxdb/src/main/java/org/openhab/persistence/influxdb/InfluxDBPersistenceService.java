@@ -14,9 +14,9 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,15 +24,16 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.influxdb.InfluxDBException;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -56,6 +57,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.InfluxPointQueue;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
 import org.osgi.framework.Constants;
@@ -68,6 +70,8 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.influxdb.exceptions.InfluxException;
+
 /**
  * This is the implementation of the InfluxDB {@link PersistenceService}. It
  * persists item values using the <a href="http://influxdb.org">InfluxDB</a> time
@@ -98,6 +102,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final int MIN_BATCH_SIZE = 100;
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -110,7 +115,13 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final InfluxPointQueue pointsQueue;
+    // written by the synchronized commit() only, volatile for the console command reading them
+    private volatile int batchSize;
+    private volatile long writtenPoints;
+    private volatile long failedWrites;
+    private volatile long lastWriteLatency; // in ms
+    private volatile long maxWriteLatency; // in ms
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -123,6 +134,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
         if (configuration.isValid()) {
+            this.pointsQueue = new InfluxPointQueue(configuration.getMaxQueueSize(),
+                    Path.of(OpenHAB.getUserDataFolder(), "persistence", SERVICE_NAME),
+                    configuration.getMaxSpillSize() * 1024L * 1024L);
+            this.batchSize = Math.max(MIN_BATCH_SIZE, configuration.getMaxBatchSize());
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
             this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
@@ -154,8 +169,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         storeJob.cancel(false);
         commit(); // ensure we at least tried to store the data;
 
-        if (!pointsQueue.isEmpty()) {
-            logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
+        // points which could not be stored are written to disk and stored after the next start
+        int lostPoints = pointsQueue.close();
+        if (lostPoints > 0) {
+            logger.warn("InfluxDB failed to finally store {} points.", lostPoints);
         }
 
         influxDBRepository.disconnect();
@@ -212,7 +229,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
             if (pointsQueue.offer(point)) {
                 logger.trace("Queued {} for item {}", point, item);
             } else {
-                logger.warn("Failed to queue {} for item {}", point, item);
+                logger.debug("Failed to queue {} for item {}, queue is full", point, item);
             }
         });
     }
@@ -249,9 +266,14 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                     itemName, filter.getOrdering().toString(), filter.getState(), filter.getOperator(),
                     filter.getBeginDate(), filter.getEndDate(), filter.getPageSize(), filter.getPageNumber());
 
-            List<InfluxDBRepository.InfluxRow> results = influxDBRepository.query(filter,
-                    configuration.getRetentionPolicy(), alias);
-            return results.stream().map(r -> mapRowToHistoricItem(r, itemName)).collect(Collectors.toList());
+            // rows are converted while they are read from the server response
+            try (Stream<InfluxDBRepository.InfluxRow> results = influxDBRepository.query(filter,
+                    configuration.getRetentionPolicy(), alias)) {
+                return results.map(r -> mapRowToHistoricItem(r, itemName)).collect(Collectors.toList());
+            } catch (InfluxException | InfluxDBException e) {
+                logger.warn("Failed to read query result: {}", e.getMessage());
+                return List.of();
+            }
         } else {
             logger.debug("Query for persisted data ignored, InfluxDB is not connected");
             return List.of();
@@ -283,20 +305,83 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
-    private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
+    private synchronized void commit() {
+        if (pointsQueue.isEmpty() || !checkConnection()) {
+            return;
+        }
+        List<InfluxPoint> points;
+        while (!(points = pointsQueue.poll(batchSize)).isEmpty()) {
+            long start = System.nanoTime();
+            boolean written = influxDBRepository.write(points);
+            lastWriteLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            maxWriteLatency = Math.max(maxWriteLatency, lastWriteLatency);
+            if (!written) {
+                pointsQueue.requeue(points);
+                failedWrites++;
+                // smaller batches are more likely to succeed on a slow or recovering server
+                batchSize = Math.max(MIN_BATCH_SIZE, batchSize / 2);
                 logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
                 influxDBRepository.disconnect();
-            } else {
-                logger.trace("Wrote {} elements to database", points.size());
+                return;
             }
+            pointsQueue.acknowledge();
+            writtenPoints += points.size();
+            batchSize = Math.min(Math.max(MIN_BATCH_SIZE, configuration.getMaxBatchSize()), batchSize * 2);
+            logger.trace("Wrote {} elements to database in {} ms", points.size(), lastWriteLatency);
         }
     }
 
+    /**
+     * Get the number of points waiting in memory.
+     */
+    public int getQueueSize() {
+        return pointsQueue.getMemorySize();
+    }
+
+    /**
+     * Get the number of points waiting on disk.
+     */
+    public long getSpilledPoints() {
+        return pointsQueue.getSpilledPoints();
+    }
+
+    /**
+     * Get the size of the points waiting on disk in bytes.
+     */
+    public long getSpillSize() {
+        return pointsQueue.getSpillSize();
+    }
+
+    public long getDroppedPoints() {
+        return pointsQueue.getDroppedPoints();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getWrittenPoints() {
+        return writtenPoints;
+    }
+
+    public long getFailedWrites() {
+        return failedWrites;
+    }
+
+    /**
+     * Get the duration of the last write in milliseconds.
+     */
+    public long getLastWriteLatency() {
+        return lastWriteLatency;
+    }
+
+    /**
+     * Get the duration of the slowest write in milliseconds.
+     */
+    public long getMaxWriteLatency() {
+        return maxWriteLatency;
+    }
+
     /**
      * Convert incoming data to an {@link InfluxPoint} for further processing. This is needed because storage is
      * asynchronous and the item data may have changed.
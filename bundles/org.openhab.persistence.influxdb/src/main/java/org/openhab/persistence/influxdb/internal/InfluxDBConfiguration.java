@@ -39,6 +39,9 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String MAX_QUEUE_SIZE_PARAM = "maxQueueSize";
+    public static final String MAX_SPILL_SIZE_PARAM = "maxSpillSize";
+    public static final String MAX_BATCH_SIZE_PARAM = "maxBatchSize";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +54,9 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int maxQueueSize;
+    private final int maxSpillSize;
+    private final int maxBatchSize;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +70,9 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        maxQueueSize = ConfigParser.valueAsOrElse(config.get(MAX_QUEUE_SIZE_PARAM), Integer.class, 100000);
+        maxSpillSize = ConfigParser.valueAsOrElse(config.get(MAX_SPILL_SIZE_PARAM), Integer.class, 100);
+        maxBatchSize = ConfigParser.valueAsOrElse(config.get(MAX_BATCH_SIZE_PARAM), Integer.class, 5000);
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -154,12 +163,28 @@ public class InfluxDBConfiguration {
         return version;
     }
 
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Get the maximum size of points spilled to disk in MB, 0 if spilling is disabled.
+     */
+    public int getMaxSpillSize() {
+        return maxSpillSize;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
     @Override
     public String toString() {
         return "InfluxDBConfiguration{url='" + url + "', user='" + user + "', password='" + password.length()
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", maxQueueSize=" + maxQueueSize + ", maxSpillSize=" + maxSpillSize
+                + ", maxBatchSize=" + maxBatchSize + '}';
     }
 }
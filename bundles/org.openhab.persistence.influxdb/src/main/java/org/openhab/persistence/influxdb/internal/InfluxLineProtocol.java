@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serializes {@link InfluxPoint}s to the InfluxDB line protocol with millisecond precision.
+ *
+ * The output is built in a buffer which is reused for every batch, so writing does not need any client specific point
+ * objects. Field types match those of the InfluxDB clients: integral numbers are written as integer fields, all
+ * other numbers as float fields.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxLineProtocol {
+    // buffers grown beyond this size are not kept between batches
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxLineProtocol.class);
+
+    private StringBuilder buffer = new StringBuilder(8192);
+
+    /**
+     * Serializes the given points, one line per point. Points with a value that cannot be represented in line
+     * protocol are skipped.
+     *
+     * @param points the points to serialize
+     * @return the line protocol records, empty if no point could be serialized
+     */
+    public String toLineProtocol(List<InfluxPoint> points) {
+        StringBuilder sb = buffer;
+        sb.setLength(0);
+        for (InfluxPoint point : points) {
+            int start = sb.length();
+            if (start > 0) {
+                sb.append('\n');
+            }
+            if (!append(sb, point)) {
+                logger.warn("Could not convert {}, discarding this datapoint", point);
+                sb.setLength(start);
+            }
+        }
+        String records = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = new StringBuilder(8192);
+        }
+        return records;
+    }
+
+    private boolean append(StringBuilder sb, InfluxPoint point) {
+        escape(sb, point.getMeasurementName(), false);
+        for (Map.Entry<String, String> tag : point.getTags().entrySet()) {
+            if (tag.getKey().isEmpty() || tag.getValue().isEmpty()) {
+                continue;
+            }
+            sb.append(',');
+            escape(sb, tag.getKey(), true);
+            sb.append('=');
+            escape(sb, tag.getValue(), true);
+        }
+        sb.append(' ').append(FIELD_VALUE_NAME).append('=');
+        if (!appendValue(sb, point.getValue())) {
+            return false;
+        }
+        sb.append(' ').append(point.getTime().toEpochMilli());
+        return true;
+    }
+
+    private boolean appendValue(StringBuilder sb, @Nullable Object value) {
+        if (value instanceof String string) {
+            sb.append('"');
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                if (c == '"' || c == '\\') {
+                    sb.append('\\');
+                }
+                sb.append(c);
+            }
+            sb.append('"');
+        } else if (value instanceof BigDecimal decimal) {
+            sb.append(decimal.toPlainString());
+        } else if (value instanceof Double || value instanceof Float) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (!Double.isFinite(doubleValue)) {
+                return false;
+            }
+            sb.append(BigDecimal.valueOf(doubleValue).toPlainString());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            sb.append(((Number) value).longValue()).append('i');
+        } else if (value instanceof Boolean bool) {
+            sb.append(bool.booleanValue());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void escape(StringBuilder sb, String value, boolean escapeEquals) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case ' ', ',' -> sb.append('\\').append(c);
+                case '=' -> {
+                    if (escapeEquals) {
+                        sb.append('\\');
+                    }
+                    sb.append(c);
+                }
+                default -> sb.append(c);
+            }
+        }
+    }
+}
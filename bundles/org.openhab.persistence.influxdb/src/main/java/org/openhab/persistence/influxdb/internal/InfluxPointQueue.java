@@ -0,0 +1,453 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of points waiting to be written to InfluxDB.
+ *
+ * Points are kept in memory up to a configurable limit. Beyond that, points are appended to segment files in the
+ * spill directory, which survive a restart. Spilled points are replayed oldest segment first, and a segment file is
+ * only deleted after all of its points were written successfully. When the spill size limit is reached as well, new
+ * points are dropped.
+ *
+ * Points are handed out by {@link #poll(int)}, and must be either confirmed by {@link #acknowledge()} or given back
+ * by {@link #requeue(List)} before the next call to {@link #poll(int)}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointQueue {
+    private static final String SEGMENT_PREFIX = "points-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final long SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_DECIMAL = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxPointQueue.class);
+
+    private final int maxSize;
+    private final @Nullable Path spillDirectory;
+    private final long maxSpillSize;
+
+    private final Deque<InfluxPoint> memory = new ArrayDeque<>();
+    // segment files by sequence number, with their size in bytes
+    private final TreeMap<Long, Long> segments = new TreeMap<>();
+    private final Deque<InfluxPoint> replay = new ArrayDeque<>();
+    private @Nullable DataOutputStream segmentOut;
+    private long segmentSequence;
+    private long replaySegment = -1;
+    private boolean lastPollFromReplay;
+    private int lastPollSize;
+
+    private long spilledPoints;
+    private long spillSize;
+    private long droppedPoints;
+    private boolean spilling;
+
+    /**
+     * Creates a new queue and picks up segment files left over from a previous run.
+     *
+     * @param maxSize maximum number of points kept in memory
+     * @param spillDirectory directory for segment files, or null to disable spilling to disk
+     * @param maxSpillSize maximum total size of all segment files in bytes
+     */
+    public InfluxPointQueue(int maxSize, @Nullable Path spillDirectory, long maxSpillSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.spillDirectory = maxSpillSize > 0 ? spillDirectory : null;
+        this.maxSpillSize = maxSpillSize;
+        loadSegments();
+    }
+
+    private void loadSegments() {
+        Path spillDirectory = this.spillDirectory;
+        if (spillDirectory == null || !Files.isDirectory(spillDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            files.forEach(file -> {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX)) {
+                    try {
+                        String sequence = fileName.substring(SEGMENT_PREFIX.length(),
+                                fileName.length() - SEGMENT_SUFFIX.length());
+                        long size = Files.size(file);
+                        segments.put(Long.parseLong(sequence), size);
+                        spillSize += size;
+                        spilledPoints += countPoints(file);
+                    } catch (NumberFormatException | IOException e) {
+                        logger.warn("Ignoring unreadable queue segment {}: {}", file, e.getMessage());
+                    }
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to list queue segments in {}: {}", spillDirectory, e.getMessage());
+        }
+        if (!segments.isEmpty()) {
+            segmentSequence = segments.lastKey() + 1;
+            logger.info("Found {} queue segment(s) with {} points from a previous run, writing them to InfluxDB.",
+                    segments.size(), spilledPoints);
+        }
+    }
+
+    private long countPoints(Path file) {
+        long count = 0;
+        try (InputStream in = Files.newInputStream(file);
+                DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            while (true) {
+                readPoint(data);
+                count++;
+            }
+        } catch (EOFException e) {
+            // end of segment, an incomplete last point from a crash is not counted
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Failed to count points of queue segment {} after {} points: {}", file, count,
+                    e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * Adds a point to the queue.
+     *
+     * @param point the point to add
+     * @return true if the point was queued in memory or on disk, false if it was dropped
+     */
+    public synchronized boolean offer(InfluxPoint point) {
+        if (memory.size() < maxSize) {
+            memory.add(point);
+            return true;
+        }
+        return spill(List.of(point)) == 1;
+    }
+
+    private int spill(List<InfluxPoint> points) {
+        Path spillDirectory = this.spillDirectory;
+        int spilled = 0;
+        if (spillDirectory != null) {
+            try {
+                for (InfluxPoint point : points) {
+                    if (spillSize >= maxSpillSize) {
+                        break;
+                    }
+                    DataOutputStream out = getSegmentOut(spillDirectory);
+                    int before = out.size();
+                    writePoint(out, point);
+                    int written = out.size() - before;
+                    segments.merge(segmentSequence, (long) written, Long::sum);
+                    spillSize += written;
+                    spilledPoints++;
+                    spilled++;
+                    if (segments.get(segmentSequence) >= SEGMENT_SIZE) {
+                        closeSegment();
+                    }
+                }
+                DataOutputStream out = segmentOut;
+                if (out != null) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                logger.warn("Failed to write points to queue segment in {}: {}", spillDirectory, e.getMessage());
+                closeSegment();
+            }
+        }
+        int dropped = points.size() - spilled;
+        if (dropped > 0) {
+            if (droppedPoints == 0) {
+                logger.warn("InfluxDB write queue and spill space are full, dropping points until InfluxDB catches up");
+            }
+            droppedPoints += dropped;
+        }
+        if (!spilling && spilled > 0) {
+            spilling = true;
+            logger.warn("InfluxDB write queue is full ({} points), spilling points to {}", maxSize, spillDirectory);
+        }
+        return spilled;
+    }
+
+    private DataOutputStream getSegmentOut(Path spillDirectory) throws IOException {
+        DataOutputStream out = segmentOut;
+        if (out == null) {
+            Files.createDirectories(spillDirectory);
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(segmentPath(segmentSequence),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+            segments.putIfAbsent(segmentSequence, 0L);
+            segmentOut = out;
+        }
+        return out;
+    }
+
+    private void closeSegment() {
+        DataOutputStream out = segmentOut;
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close queue segment: {}", e.getMessage());
+            }
+            segmentOut = null;
+            segmentSequence++;
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return requireSpillDirectory().resolve(SEGMENT_PREFIX + String.format("%016d", sequence) + SEGMENT_SUFFIX);
+    }
+
+    private Path requireSpillDirectory() {
+        Path spillDirectory = this.spillDirectory;
+        if (spillDirectory == null) {
+            throw new IllegalStateException("Spilling is disabled");
+        }
+        return spillDirectory;
+    }
+
+    /**
+     * Takes the next points to write. All points of one call are taken either from the oldest segment file or from
+     * memory. Segment files are replayed before the points in memory, so disk space is freed first. The points are
+     * therefore not written in the order they were queued, which doesn't matter as every point has its own timestamp.
+     *
+     * @param maxPoints the maximum number of points to return
+     * @return the points to write, empty if the queue is empty
+     */
+    public synchronized List<InfluxPoint> poll(int maxPoints) {
+        if (replay.isEmpty() && !segments.isEmpty()) {
+            loadReplaySegment();
+        }
+        lastPollFromReplay = !replay.isEmpty();
+        Deque<InfluxPoint> source = lastPollFromReplay ? replay : memory;
+        List<InfluxPoint> points = new ArrayList<>(Math.min(maxPoints, source.size()));
+        while (points.size() < maxPoints && !source.isEmpty()) {
+            points.add(source.poll());
+        }
+        lastPollSize = points.size();
+        return points;
+    }
+
+    private void loadReplaySegment() {
+        long sequence = segments.firstKey();
+        if (sequence == segmentSequence) {
+            // never read the segment currently written to
+            closeSegment();
+        }
+        Path file = segmentPath(sequence);
+        try (InputStream in = Files.newInputStream(file);
+                DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            while (true) {
+                replay.add(readPoint(data));
+            }
+        } catch (EOFException e) {
+            // end of segment, an incomplete last point from a crash is skipped
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to read queue segment {}, {} points recovered: {}", file, replay.size(),
+                    e.getMessage());
+        }
+        replaySegment = sequence;
+        if (replay.isEmpty()) {
+            deleteReplaySegment();
+        }
+    }
+
+    private void deleteReplaySegment() {
+        Long size = segments.remove(replaySegment);
+        if (size != null) {
+            spillSize -= size;
+        }
+        try {
+            Files.deleteIfExists(segmentPath(replaySegment));
+        } catch (IOException e) {
+            logger.warn("Failed to delete queue segment {}: {}", segmentPath(replaySegment), e.getMessage());
+        }
+        replaySegment = -1;
+        if (segments.isEmpty() && spilling) {
+            spilling = false;
+            logger.info("All spilled points were written to InfluxDB");
+        }
+    }
+
+    /**
+     * Confirms that the points of the last {@link #poll(int)} were written.
+     */
+    public synchronized void acknowledge() {
+        if (lastPollFromReplay) {
+            spilledPoints = Math.max(0, spilledPoints - lastPollSize);
+            if (replay.isEmpty() && replaySegment >= 0) {
+                deleteReplaySegment();
+            }
+        }
+    }
+
+    /**
+     * Gives back the points of the last {@link #poll(int)} after they could not be written. The points are returned
+     * to the head of the queue. Points not fitting into memory anymore are spilled to disk.
+     *
+     * @param points the points returned by the last poll
+     */
+    public synchronized void requeue(List<InfluxPoint> points) {
+        Deque<InfluxPoint> target = lastPollFromReplay ? replay : memory;
+        for (int i = points.size() - 1; i >= 0; i--) {
+            target.addFirst(points.get(i));
+        }
+        if (!lastPollFromReplay && memory.size() > maxSize) {
+            List<InfluxPoint> excess = new ArrayList<>(memory.size() - maxSize);
+            while (memory.size() > maxSize) {
+                excess.add(memory.pollLast());
+            }
+            spill(excess);
+        }
+    }
+
+    /**
+     * Moves all points still kept in memory to disk, so they are written after a restart.
+     *
+     * @return the number of points which could not be saved
+     */
+    public synchronized int close() {
+        List<InfluxPoint> points = new ArrayList<>(memory);
+        memory.clear();
+        int lost = points.size() - (points.isEmpty() ? 0 : spill(points));
+        closeSegment();
+        // points being replayed are still contained in their segment file
+        replay.clear();
+        replaySegment = -1;
+        return lost;
+    }
+
+    public synchronized boolean isEmpty() {
+        return memory.isEmpty() && replay.isEmpty() && segments.isEmpty();
+    }
+
+    /**
+     * Get the number of points waiting in memory.
+     */
+    public synchronized int getMemorySize() {
+        return memory.size() + replay.size();
+    }
+
+    /**
+     * Get the total size of all segment files in bytes.
+     */
+    public synchronized long getSpillSize() {
+        return spillSize;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Get the number of points currently spilled to disk.
+     */
+    public synchronized long getSpilledPoints() {
+        return spilledPoints;
+    }
+
+    public synchronized long getDroppedPoints() {
+        return droppedPoints;
+    }
+
+    private void writePoint(DataOutputStream out, InfluxPoint point) throws IOException {
+        out.writeUTF(point.getMeasurementName());
+        out.writeLong(point.getTime().getEpochSecond());
+        out.writeInt(point.getTime().getNano());
+        Object value = point.getValue();
+        if (value instanceof BigDecimal decimal) {
+            out.writeByte(TYPE_DECIMAL);
+            out.writeUTF(decimal.toString());
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Integer intValue) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt(intValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Boolean booleanValue) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(booleanValue);
+        } else {
+            out.writeByte(TYPE_STRING);
+            writeLongUTF(out, String.valueOf(value));
+        }
+        Map<String, String> tags = point.getTags();
+        out.writeShort(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            out.writeUTF(tag.getKey());
+            out.writeUTF(tag.getValue());
+        }
+    }
+
+    private InfluxPoint readPoint(DataInputStream in) throws IOException {
+        InfluxPoint.Builder builder = InfluxPoint.newBuilder(in.readUTF());
+        builder.withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+        byte type = in.readByte();
+        builder.withValue(switch (type) {
+            case TYPE_DECIMAL -> new BigDecimal(in.readUTF());
+            case TYPE_LONG -> in.readLong();
+            case TYPE_INTEGER -> in.readInt();
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_BOOLEAN -> in.readBoolean();
+            case TYPE_STRING -> readLongUTF(in);
+            default -> throw new IOException("Unknown value type " + type);
+        });
+        int tagCount = in.readUnsignedShort();
+        for (int i = 0; i < tagCount; i++) {
+            builder.withTag(in.readUTF(), in.readUTF());
+        }
+        return builder.build();
+    }
+
+    // string values (e.g. images) may exceed the 64 KiB limit of writeUTF
+    private void writeLongUTF(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readLongUTF(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
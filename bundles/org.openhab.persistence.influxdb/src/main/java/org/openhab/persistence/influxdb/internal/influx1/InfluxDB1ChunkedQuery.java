@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal.influx1;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.influxdb.InfluxDB;
+import org.influxdb.InfluxDBException;
+import org.influxdb.dto.Query;
+import org.influxdb.dto.QueryResult;
+
+/**
+ * Runs an InfluxQL query in chunked mode and hands out the chunks as they arrive.
+ *
+ * The client delivers chunks asynchronously. Only a few chunks are buffered, the client thread waits until they have
+ * been consumed, so memory usage does not depend on the size of the result. If a chunk is not taken within
+ * {@value #CHUNK_TIMEOUT} seconds, the query is cancelled.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+class InfluxDB1ChunkedQuery implements Iterator<QueryResult> {
+    private static final Object END = new Object();
+    private static final int BUFFERED_CHUNKS = 2;
+    private static final long CHUNK_TIMEOUT = 60; // in s
+
+    private final BlockingQueue<Object> chunks = new ArrayBlockingQueue<>(BUFFERED_CHUNKS);
+    private volatile boolean closed;
+    private volatile InfluxDB.@Nullable Cancellable cancellable;
+    private @Nullable QueryResult next;
+
+    InfluxDB1ChunkedQuery(InfluxDB client, Query query, int chunkSize) {
+        client.query(query, chunkSize, (cancellable, result) -> {
+            this.cancellable = cancellable;
+            put(result);
+        }, () -> put(END), this::put);
+    }
+
+    /**
+     * Returns the chunks as stream. Closing the stream cancels the query.
+     */
+    Stream<QueryResult> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    private void put(Object chunk) {
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CHUNK_TIMEOUT);
+            while (!closed && !chunks.offer(chunk, 1, TimeUnit.SECONDS)) {
+                if (System.nanoTime() - deadline > 0) {
+                    // the consumer stopped reading without closing the stream, don't block the client thread
+                    close();
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        Object chunk;
+        try {
+            chunk = chunks.poll(CHUNK_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            return false;
+        }
+        if (chunk instanceof QueryResult result) {
+            next = result;
+            return true;
+        }
+        close();
+        if (chunk == null) {
+            throw new InfluxDBException("Timeout while waiting for query results");
+        } else if (chunk instanceof Throwable throwable) {
+            throw throwable instanceof InfluxDBException e ? e : new InfluxDBException(throwable);
+        }
+        return false;
+    }
+
+    @Override
+    public QueryResult next() {
+        QueryResult result = next;
+        if (result == null && hasNext()) {
+            result = next;
+        }
+        if (result == null) {
+            throw new NoSuchElementException();
+        }
+        next = null;
+        return result;
+    }
+
+    void close() {
+        closed = true;
+        InfluxDB.Cancellable cancellable = this.cancellable;
+        if (cancellable != null && !cancellable.isCanceled()) {
+            cancellable.cancel();
+        }
+        chunks.clear();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link InfluxLineProtocol}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxLineProtocolTest {
+
+    private static final Instant TIME = Instant.ofEpochMilli(1700000000123L);
+
+    private final InfluxLineProtocol lineProtocol = new InfluxLineProtocol();
+
+    private InfluxPoint point(String measurement, Object value) {
+        return InfluxPoint.newBuilder(measurement).withTime(TIME).withValue(value).withTag("item", measurement)
+                .build();
+    }
+
+    @Test
+    void fieldTypesMatchClientFormat() {
+        String records = lineProtocol.toLineProtocol(List.of(point("decimal", new BigDecimal("21.50")),
+                point("integer", 1), point("long", 1700000000000L), point("double", 0.1), point("bool", true)));
+
+        assertThat(records.split("\n"),
+                arrayContaining("decimal,item=decimal value=21.50 1700000000123",
+                        "integer,item=integer value=1i 1700000000123",
+                        "long,item=long value=1700000000000i 1700000000123",
+                        "double,item=double value=0.1 1700000000123", "bool,item=bool value=true 1700000000123"));
+    }
+
+    @Test
+    void specialCharactersAreEscaped() {
+        InfluxPoint point = InfluxPoint.newBuilder("my measurement,1").withTime(TIME)
+                .withValue("say \"hello\" \\ bye").withTag("b tag", "x=y").withTag("a", "1,2").build();
+
+        assertThat(lineProtocol.toLineProtocol(List.of(point)), is(
+                "my\\ measurement\\,1,a=1\\,2,b\\ tag=x\\=y value=\"say \\\"hello\\\" \\\\ bye\" 1700000000123"));
+    }
+
+    @Test
+    void unsupportedValuesAreSkipped() {
+        String records = lineProtocol.toLineProtocol(
+                List.of(point("nan", Double.NaN), point("object", new Object()), point("valid", 1)));
+
+        assertThat(records, is("valid,item=valid value=1i 1700000000123"));
+    }
+}
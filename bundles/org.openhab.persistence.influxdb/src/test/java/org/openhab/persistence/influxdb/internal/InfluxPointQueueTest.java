@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the {@link InfluxPointQueue}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointQueueTest {
+
+    private @TempDir @NonNullByDefault({}) Path spillDirectory;
+
+    private InfluxPoint point(int value) {
+        return InfluxPoint.newBuilder("measurement").withTime(Instant.ofEpochSecond(1000 + value, 5))
+                .withValue(new BigDecimal(value)).withTag("item", "item" + value).build();
+    }
+
+    @Test
+    void offerDropsPointsWhenSpillingIsDisabled() {
+        InfluxPointQueue queue = new InfluxPointQueue(2, spillDirectory, 0);
+
+        assertTrue(queue.offer(point(1)));
+        assertTrue(queue.offer(point(2)));
+        assertFalse(queue.offer(point(3)));
+
+        assertThat(queue.getMemorySize(), is(2));
+        assertThat(queue.getDroppedPoints(), is(1L));
+    }
+
+    @Test
+    void spilledPointsAreReplayedFirst() {
+        InfluxPointQueue queue = new InfluxPointQueue(2, spillDirectory, 1024 * 1024);
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(queue.offer(point(i)));
+        }
+        assertThat(queue.getSpilledPoints(), is(2L));
+        assertThat(queue.getSpillSize(), greaterThan(0L));
+
+        List<InfluxPoint> spilled = queue.poll(10);
+        assertThat(spilled.stream().map(InfluxPoint::getValue).toList(),
+                contains(new BigDecimal(3), new BigDecimal(4)));
+        assertThat(spilled.get(0).getTime(), is(Instant.ofEpochSecond(1003, 5)));
+        assertThat(spilled.get(0).getTags(), hasEntry("item", "item3"));
+        queue.acknowledge();
+        assertThat(queue.getSpillSize(), is(0L));
+
+        List<InfluxPoint> memory = queue.poll(10);
+        assertThat(memory.stream().map(InfluxPoint::getValue).toList(),
+                contains(new BigDecimal(1), new BigDecimal(2)));
+        queue.acknowledge();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void requeuedPointsArePolledAgain() {
+        InfluxPointQueue queue = new InfluxPointQueue(10, null, 0);
+        for (int i = 1; i <= 3; i++) {
+            queue.offer(point(i));
+        }
+
+        List<InfluxPoint> points = queue.poll(2);
+        queue.requeue(points);
+
+        assertThat(queue.poll(10).stream().map(InfluxPoint::getValue).toList(),
+                contains(new BigDecimal(1), new BigDecimal(2), new BigDecimal(3)));
+    }
+
+    @Test
+    void pendingPointsSurviveRestart() {
+        InfluxPointQueue queue = new InfluxPointQueue(10, spillDirectory, 1024 * 1024);
+        queue.offer(point(1));
+        queue.offer(point(2));
+        assertThat(queue.close(), is(0));
+
+        InfluxPointQueue restarted = new InfluxPointQueue(10, spillDirectory, 1024 * 1024);
+        assertFalse(restarted.isEmpty());
+        assertThat(restarted.getSpilledPoints(), is(2L));
+        assertThat(restarted.poll(10).stream().map(InfluxPoint::getValue).toList(),
+                contains(new BigDecimal(1), new BigDecimal(2)));
+        restarted.acknowledge();
+        assertTrue(restarted.isEmpty());
+        assertThat(restarted.getSpilledPoints(), is(0L));
+    }
+}
@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * Time series of one item, sorted by timestamp and bounded to a maximum size.
+ *
+ * The entries are kept in parallel primitive arrays used as ring buffer, so appending a new entry and dropping the
+ * oldest one are O(1) and range lookups use binary search. {@link DecimalType} states and {@link QuantityType} states
+ * in the unit of the first stored quantity are kept as unscaled long value and scale if that is lossless, all other
+ * states are kept as they are. The zone of every timestamp is kept as well.
+ *
+ * Readers do not block each other and usually do not block writers either: the requested range is copied using an
+ * optimistic read, which is only repeated under the read lock if a write happened in the meantime.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class TimeSeriesBuffer {
+
+    /**
+     * Converts an entry of the time series.
+     */
+    @FunctionalInterface
+    public interface EntryMapper<T> {
+        T map(long timestamp, ZoneId zone, State state);
+    }
+
+    /**
+     * @param count the number of entries
+     * @param earliest the oldest timestamp, only valid if count is not 0
+     * @param latest the newest timestamp, only valid if count is not 0
+     */
+    public record Info(int count, long earliest, long latest) {
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private static final byte KIND_STATE = 0;
+    private static final byte KIND_DECIMAL = 1;
+    private static final byte KIND_QUANTITY = 2;
+
+    private final StampedLock lock = new StampedLock();
+
+    private long[] timestamps = new long[0];
+    private long[] values = new long[0];
+    private byte[] scales = new byte[0];
+    private byte[] kinds = new byte[0];
+    private @Nullable ZoneId[] zones = new ZoneId[0];
+    private @Nullable State[] states = new State[0];
+    private @Nullable Unit<?> unit;
+    private int head;
+    private int size;
+
+    /**
+     * Adds an entry, replacing an existing entry with the same timestamp. If the buffer is full, the oldest entry is
+     * dropped. With a maximum size of 0, nothing is kept.
+     *
+     * @param timestamp the timestamp
+     * @param zone the zone of the timestamp
+     * @param state the state
+     * @param maxSize the maximum number of entries
+     */
+    public void put(long timestamp, ZoneId zone, State state, long maxSize) {
+        int limit = (int) Math.min(Math.max(maxSize, 0), MAX_CAPACITY);
+        long stamp = lock.writeLock();
+        try {
+            trimTo(limit);
+            if (limit == 0) {
+                return;
+            }
+            int pos = lowerBound(timestamp);
+            if (pos < size && timestamps[physical(pos)] == timestamp) {
+                set(physical(pos), timestamp, zone, state);
+                return;
+            }
+            if (size >= limit) {
+                if (pos == 0) {
+                    // older than all entries of a full buffer, would be dropped right away
+                    return;
+                }
+                dropFirst();
+                pos--;
+            } else if (size == timestamps.length) {
+                grow(limit);
+            }
+            for (int i = size; i > pos; i--) {
+                move(physical(i - 1), physical(i));
+            }
+            size++;
+            set(physical(pos), timestamp, zone, state);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Drops the oldest entries exceeding the given size.
+     *
+     * @param maxSize the maximum number of entries
+     */
+    public void trim(long maxSize) {
+        long stamp = lock.writeLock();
+        try {
+            trimTo((int) Math.min(Math.max(maxSize, 0), MAX_CAPACITY));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the entries within the given range whose state matches the filter.
+     *
+     * @param begin the first timestamp, inclusive
+     * @param end the last timestamp, inclusive
+     * @param filter the state filter
+     * @return the number of removed entries
+     */
+    public int remove(long begin, long end, Predicate<State> filter) {
+        long stamp = lock.writeLock();
+        try {
+            int from = lowerBound(begin);
+            int to = upperBound(end);
+            int target = from;
+            for (int i = from; i < size; i++) {
+                int index = physical(i);
+                if (i < to && filter.test(decode(index, unit))) {
+                    continue;
+                }
+                if (target != i) {
+                    move(index, physical(target));
+                }
+                target++;
+            }
+            int removed = size - target;
+            for (int i = target; i < size; i++) {
+                zones[physical(i)] = null;
+                states[physical(i)] = null;
+            }
+            size = target;
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gets the entries within the given range whose state matches the filter.
+     *
+     * @param begin the first timestamp, inclusive
+     * @param end the last timestamp, inclusive
+     * @param ascending the ordering of the result
+     * @param filter the state filter
+     * @param mapper converts the matching entries
+     * @return the converted entries
+     */
+    public <T> List<T> query(long begin, long end, boolean ascending, Predicate<State> filter,
+            EntryMapper<T> mapper) {
+        Range range = null;
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                range = copyRange(begin, end);
+            } catch (RuntimeException e) {
+                // inconsistent read caused by a concurrent write, retried below
+            }
+        }
+        if (range == null || !lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                range = copyRange(begin, end);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        List<T> result = new ArrayList<>(range.length());
+        for (int i = 0; i < range.length(); i++) {
+            int index = ascending ? i : range.length() - 1 - i;
+            State state = range.decode(index);
+            if (filter.test(state)) {
+                result.add(mapper.map(range.timestamps()[index], range.zone(index), state));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of entries and the range of their timestamps.
+     */
+    public Info getInfo() {
+        long stamp = lock.readLock();
+        try {
+            if (size == 0) {
+                return new Info(0, 0, 0);
+            }
+            return new Info(size, timestamps[physical(0)], timestamps[physical(size - 1)]);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int physical(int logical) {
+        int index = head + logical;
+        return index >= timestamps.length ? index - timestamps.length : index;
+    }
+
+    // first logical index with a timestamp not before the given one
+    private int lowerBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[physical(mid)] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // first logical index with a timestamp after the given one
+    private int upperBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[physical(mid)] <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void trimTo(int maxSize) {
+        while (size > maxSize) {
+            dropFirst();
+        }
+    }
+
+    private void dropFirst() {
+        zones[head] = null;
+        states[head] = null;
+        head = physical(1);
+        size--;
+    }
+
+    private void grow(int limit) {
+        int capacity = (int) Math.min(Math.max((long) timestamps.length * 2, INITIAL_CAPACITY), limit);
+        long[] newTimestamps = new long[capacity];
+        long[] newValues = new long[capacity];
+        byte[] newScales = new byte[capacity];
+        byte[] newKinds = new byte[capacity];
+        @Nullable
+        ZoneId[] newZones = new ZoneId[capacity];
+        @Nullable
+        State[] newStates = new State[capacity];
+        for (int i = 0; i < size; i++) {
+            int index = physical(i);
+            newTimestamps[i] = timestamps[index];
+            newValues[i] = values[index];
+            newScales[i] = scales[index];
+            newKinds[i] = kinds[index];
+            newZones[i] = zones[index];
+            newStates[i] = states[index];
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        scales = newScales;
+        kinds = newKinds;
+        zones = newZones;
+        states = newStates;
+        head = 0;
+    }
+
+    private void move(int from, int to) {
+        timestamps[to] = timestamps[from];
+        values[to] = values[from];
+        scales[to] = scales[from];
+        kinds[to] = kinds[from];
+        zones[to] = zones[from];
+        states[to] = states[from];
+    }
+
+    private void set(int index, long timestamp, ZoneId zone, State state) {
+        timestamps[index] = timestamp;
+        zones[index] = zone;
+        states[index] = null;
+        if (state.getClass() == DecimalType.class) {
+            BigDecimal value = ((DecimalType) state).toBigDecimal();
+            if (isCompact(value)) {
+                values[index] = value.unscaledValue().longValue();
+                scales[index] = (byte) value.scale();
+                kinds[index] = KIND_DECIMAL;
+                return;
+            }
+        } else if (state instanceof QuantityType<?> quantity && quantity.getClass() == QuantityType.class) {
+            Unit<?> unit = this.unit;
+            if (unit == null) {
+                unit = quantity.getUnit();
+                this.unit = unit;
+            }
+            BigDecimal value = quantity.toBigDecimal();
+            if (unit.equals(quantity.getUnit()) && isCompact(value)) {
+                values[index] = value.unscaledValue().longValue();
+                scales[index] = (byte) value.scale();
+                kinds[index] = KIND_QUANTITY;
+                return;
+            }
+        }
+        kinds[index] = KIND_STATE;
+        states[index] = state;
+    }
+
+    private static boolean isCompact(BigDecimal value) {
+        return value.unscaledValue().bitLength() < Long.SIZE && value.scale() >= Byte.MIN_VALUE
+                && value.scale() <= Byte.MAX_VALUE;
+    }
+
+    private State decode(int index, @Nullable Unit<?> unit) {
+        return decode(kinds[index], values[index], scales[index], states[index], unit);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static State decode(byte kind, long value, byte scale, @Nullable State state, @Nullable Unit<?> unit) {
+        if (kind == KIND_DECIMAL) {
+            return new DecimalType(BigDecimal.valueOf(value, scale));
+        } else if (kind == KIND_QUANTITY && unit != null) {
+            return new QuantityType(BigDecimal.valueOf(value, scale), (Unit) unit);
+        } else if (state != null) {
+            return state;
+        }
+        throw new IllegalStateException("Inconsistent entry");
+    }
+
+    private Range copyRange(long begin, long end) {
+        // read all fields once, they might be modified concurrently during an optimistic read
+        long[] timestamps = this.timestamps;
+        long[] values = this.values;
+        byte[] scales = this.scales;
+        byte[] kinds = this.kinds;
+        @Nullable
+        ZoneId[] zones = this.zones;
+        @Nullable
+        State[] states = this.states;
+        int head = this.head;
+        int size = this.size;
+        int capacity = timestamps.length;
+        if (values.length != capacity || scales.length != capacity || kinds.length != capacity
+                || zones.length != capacity || states.length != capacity || size > capacity
+                || head >= Math.max(capacity, 1)) {
+            throw new IllegalStateException("Inconsistent buffer");
+        }
+
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[(head + mid) % capacity] < begin) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int from = low;
+        high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[(head + mid) % capacity] <= end) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int length = low - from;
+
+        long[] rangeTimestamps = new long[length];
+        long[] rangeValues = new long[length];
+        byte[] rangeScales = new byte[length];
+        byte[] rangeKinds = new byte[length];
+        @Nullable
+        ZoneId[] rangeZones = new ZoneId[length];
+        @Nullable
+        State[] rangeStates = new State[length];
+        for (int i = 0; i < length; i++) {
+            int index = (head + from + i) % capacity;
+            rangeTimestamps[i] = timestamps[index];
+            rangeValues[i] = values[index];
+            rangeScales[i] = scales[index];
+            rangeKinds[i] = kinds[index];
+            rangeZones[i] = zones[index];
+            rangeStates[i] = states[index];
+        }
+        return new Range(rangeTimestamps, rangeValues, rangeScales, rangeKinds, rangeZones, rangeStates, unit,
+                length);
+    }
+
+    private record Range(long[] timestamps, long[] values, byte[] scales, byte[] kinds, @Nullable ZoneId[] zones,
+            @Nullable State[] states, @Nullable Unit<?> unit, int length) {
+
+        State decode(int index) {
+            return TimeSeriesBuffer.decode(kinds[index], values[index], scales[index], states[index], unit);
+        }
+
+        ZoneId zone(int index) {
+            ZoneId zone = zones[index];
+            if (zone == null) {
+                throw new IllegalStateException("Inconsistent entry");
+            }
+            return zone;
+        }
+    }
+}
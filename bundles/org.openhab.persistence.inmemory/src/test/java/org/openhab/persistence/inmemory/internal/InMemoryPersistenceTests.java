@@ -127,6 +127,19 @@ public class InMemoryPersistenceTests {
         assertThat(storedStates.first().getTimestamp(), is(expectedTime));
     }
 
+    @Test
+    public void storeHistoricKeepsZone() {
+        State historicState = new DecimalType(2);
+        ZonedDateTime expectedTime = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.of("Pacific/Auckland"));
+        service.store(item, expectedTime, historicState);
+
+        List<HistoricItem> storedStates = new ArrayList<>();
+        service.query(filterCriteria).forEach(storedStates::add);
+
+        assertThat(storedStates, hasSize(1));
+        assertThat(storedStates.get(0).getTimestamp(), is(expectedTime));
+    }
+
     @Test
     public void queryWithoutItemNameReturnsEmptyList() {
         TreeSet<HistoricItem> storedStates = new TreeSet<>(Comparator.comparing(HistoricItem::getTimestamp));
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.State;
+
+/**
+ * Tests the {@link TimeSeriesBuffer}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class TimeSeriesBufferTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    private final TimeSeriesBuffer buffer = new TimeSeriesBuffer();
+
+    private List<Long> timestamps(long begin, long end, boolean ascending) {
+        return buffer.query(begin, end, ascending, state -> true, (timestamp, zone, state) -> timestamp);
+    }
+
+    private List<State> states() {
+        return buffer.query(Long.MIN_VALUE, Long.MAX_VALUE, true, state -> true, (timestamp, zone, state) -> state);
+    }
+
+    @Test
+    void outOfOrderEntriesAreSorted() {
+        for (long timestamp : new long[] { 5, 1, 3, 2, 4 }) {
+            buffer.put(timestamp, ZONE, new DecimalType(timestamp), 10);
+        }
+
+        assertThat(timestamps(Long.MIN_VALUE, Long.MAX_VALUE, true), contains(1L, 2L, 3L, 4L, 5L));
+        assertThat(timestamps(2, 4, false), contains(4L, 3L, 2L));
+    }
+
+    @Test
+    void oldestEntriesAreDroppedWhenFull() {
+        for (long timestamp = 0; timestamp < 100; timestamp++) {
+            buffer.put(timestamp, ZONE, new DecimalType(timestamp), 20);
+        }
+        // older than all entries of the full buffer
+        buffer.put(-1, ZONE, new DecimalType(-1), 20);
+
+        assertThat(timestamps(Long.MIN_VALUE, Long.MAX_VALUE, true), hasSize(20));
+        assertThat(buffer.getInfo(), is(new TimeSeriesBuffer.Info(20, 80, 99)));
+
+        buffer.trim(5);
+        assertThat(timestamps(Long.MIN_VALUE, Long.MAX_VALUE, true), contains(95L, 96L, 97L, 98L, 99L));
+    }
+
+    @Test
+    void existingTimestampIsReplaced() {
+        buffer.put(1, ZONE, new StringType("old"), 10);
+        buffer.put(1, ZONE, new StringType("new"), 10);
+
+        assertThat(states(), contains(new StringType("new")));
+    }
+
+    @Test
+    void statesAreRestored() {
+        List<State> stored = List.of(new DecimalType(new BigDecimal("21.5")),
+                new DecimalType(new BigDecimal("0.1000000000000000000001")),
+                new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS), QuantityType.valueOf(5, Units.WATT),
+                new StringType("value"));
+        for (int i = 0; i < stored.size(); i++) {
+            buffer.put(i, ZONE, stored.get(i), 10);
+        }
+
+        assertThat(states(), is(stored));
+    }
+
+    @Test
+    void removeKeepsOtherEntries() {
+        for (long timestamp = 0; timestamp < 10; timestamp++) {
+            buffer.put(timestamp, ZONE, new DecimalType(timestamp), 10);
+        }
+
+        assertThat(buffer.remove(2, 7, state -> ((DecimalType) state).longValue() % 2 == 0), is(3));
+        assertThat(timestamps(Long.MIN_VALUE, Long.MAX_VALUE, true), contains(0L, 1L, 3L, 5L, 7L, 8L, 9L));
+    }
+
+    @Test
+    void zonesAreKept() {
+        ZoneId zone = ZoneId.of("Asia/Tokyo");
+        buffer.put(1, ZONE, new DecimalType(1), 10);
+        buffer.put(2, zone, new DecimalType(2), 10);
+
+        assertThat(buffer.query(Long.MIN_VALUE, Long.MAX_VALUE, true, state -> true, (timestamp, z, state) -> z),
+                contains(ZONE, zone));
+    }
+
+    @Test
+    void maxSizeZeroKeepsNothing() {
+        buffer.put(1, ZONE, new DecimalType(1), 10);
+        buffer.put(2, ZONE, new DecimalType(2), 0);
+
+        assertThat(buffer.getInfo().count(), is(0));
+    }
+}
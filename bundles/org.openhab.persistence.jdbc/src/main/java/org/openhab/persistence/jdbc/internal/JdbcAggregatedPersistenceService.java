@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.QueryablePersistenceService;
+import org.openhab.core.persistence.strategy.PersistenceStrategy;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-only view of the {@link JdbcPersistenceService} returning aggregated values for queries over long time ranges,
+ * see {@code aggregationBuckets}.
+ *
+ * Aggregation is only applied to queries of this service, so charts can select it explicitly while rules and
+ * persistence extensions querying the JDBC service keep getting the stored values.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class })
+public class JdbcAggregatedPersistenceService implements QueryablePersistenceService {
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcAggregatedPersistenceService.class);
+
+    private final JdbcPersistenceService jdbcPersistenceService;
+
+    @Activate
+    public JdbcAggregatedPersistenceService(final @Reference JdbcPersistenceService jdbcPersistenceService) {
+        this.jdbcPersistenceService = jdbcPersistenceService;
+    }
+
+    @Override
+    public String getId() {
+        return JdbcPersistenceServiceConstants.AGGREGATED_SERVICE_ID;
+    }
+
+    @Override
+    public String getLabel(@Nullable Locale locale) {
+        return JdbcPersistenceServiceConstants.AGGREGATED_SERVICE_LABEL;
+    }
+
+    @Override
+    public void store(Item item) {
+        store(item, null);
+    }
+
+    @Override
+    public void store(Item item, @Nullable String alias) {
+        logger.debug("JDBC::store: '{}' is read-only, use '{}' to store item '{}'", getId(),
+                JdbcPersistenceServiceConstants.SERVICE_ID, item.getName());
+    }
+
+    @Override
+    public Set<PersistenceItemInfo> getItemInfo() {
+        return jdbcPersistenceService.getItemInfo();
+    }
+
+    @Override
+    public Iterable<HistoricItem> query(FilterCriteria filter) {
+        return query(filter, null);
+    }
+
+    @Override
+    public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        return jdbcPersistenceService.query(filter, alias, true);
+    }
+
+    @Override
+    public List<PersistenceStrategy> getDefaultStrategies() {
+        return List.of();
+    }
+}
@@ -25,6 +25,7 @@ import java.util.regex.Pattern;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.internal.dto.AggregationFunction;
 import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
 import org.slf4j.Logger;
@@ -66,6 +67,15 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private int writeQueueSize = 10000;
+    private int batchSize = 1;
+    private int batchInterval = 1000;
+    private int writerThreads = 1;
+    private boolean singleTable = false;
+    private String singleTableName = "item_values";
+    private int aggregationBuckets = 0;
+    private AggregationFunction aggregationFunction = AggregationFunction.AVG;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -143,6 +153,7 @@ public class JdbcConfiguration {
         setSqlTypes();
 
         final Pattern isNumericPattern = Pattern.compile("\\d+(\\.\\d+)?");
+        final Pattern isIntegerPattern = Pattern.compile("\\d{1,9}");
         String et = (String) configuration.get("reconnectCnt");
         if (et != null && !et.isBlank() && isNumericPattern.matcher(et).matches()) {
             errReconnectThreshold = Integer.parseInt(et);
@@ -191,6 +202,69 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String qs = (String) configuration.get("writeQueueSize");
+        if (qs != null && !qs.isBlank() && isIntegerPattern.matcher(qs).matches()) {
+            writeQueueSize = Math.max(1, Integer.parseInt(qs));
+            logger.debug("JDBC::updateConfig: writeQueueSize={}", writeQueueSize);
+        }
+
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isIntegerPattern.matcher(bs).matches()) {
+            batchSize = Math.max(1, Integer.parseInt(bs));
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bi = (String) configuration.get("batchInterval");
+        if (bi != null && !bi.isBlank() && isIntegerPattern.matcher(bi).matches()) {
+            batchInterval = Integer.parseInt(bi);
+            logger.debug("JDBC::updateConfig: batchInterval={}", batchInterval);
+        }
+
+        String wt = (String) configuration.get("writerThreads");
+        if (wt != null && !wt.isBlank() && isIntegerPattern.matcher(wt).matches()) {
+            writerThreads = Math.max(1, Integer.parseInt(wt));
+            logger.debug("JDBC::updateConfig: writerThreads={}", writerThreads);
+        }
+
+        String st = (String) configuration.get("singleTable");
+        if (st != null && !st.isBlank()) {
+            singleTable = Boolean.parseBoolean(st);
+            if (singleTable && !dBDAO.supportsSingleTable()) {
+                logger.warn("JDBC::updateConfig: singleTable is not supported by {}, falling back to one table per item",
+                        serviceName);
+                singleTable = false;
+            }
+            logger.debug("JDBC::updateConfig: singleTable={}", singleTable);
+        }
+
+        String sm = (String) configuration.get("singleTableName");
+        if (sm != null && !sm.isBlank()) {
+            singleTableName = sm;
+            logger.debug("JDBC::updateConfig: singleTableName={}", singleTableName);
+        }
+
+        String ab = (String) configuration.get("aggregationBuckets");
+        if (ab != null && !ab.isBlank() && isIntegerPattern.matcher(ab).matches()) {
+            aggregationBuckets = Integer.parseInt(ab);
+            if (aggregationBuckets > 0 && !dBDAO.supportsAggregation()) {
+                logger.warn("JDBC::updateConfig: aggregationBuckets is not supported by {}, values are not aggregated",
+                        serviceName);
+                aggregationBuckets = 0;
+            }
+            logger.debug("JDBC::updateConfig: aggregationBuckets={}", aggregationBuckets);
+        }
+
+        String af = (String) configuration.get("aggregationFunction");
+        if (af != null && !af.isBlank()) {
+            try {
+                aggregationFunction = AggregationFunction.valueOf(af.trim().toUpperCase());
+                logger.debug("JDBC::updateConfig: aggregationFunction={}", aggregationFunction);
+            } catch (IllegalArgumentException e) {
+                logger.warn("JDBC::updateConfig: Invalid aggregationFunction '{}', using {}", af,
+                        aggregationFunction);
+            }
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -400,6 +474,48 @@ public class JdbcConfiguration {
         return tableUseRealItemNames && tableCaseSensitiveItemNames;
     }
 
+    public int getWriteQueueSize() {
+        return writeQueueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchInterval() {
+        return batchInterval;
+    }
+
+    public int getWriterThreads() {
+        return writerThreads;
+    }
+
+    /**
+     * Checks if the values of all items are stored in one table keyed by item id and time.
+     *
+     * @return true if the single table schema is used instead of one table per item.
+     */
+    public boolean isSingleTable() {
+        return singleTable;
+    }
+
+    public String getSingleTableName() {
+        return singleTableName;
+    }
+
+    /**
+     * Get the maximum number of values returned for a time range query of a numeric item.
+     *
+     * @return number of time buckets values are aggregated into, or 0 if values are not aggregated.
+     */
+    public int getAggregationBuckets() {
+        return aggregationBuckets;
+    }
+
+    public AggregationFunction getAggregationFunction() {
+        return aggregationFunction;
+    }
+
     public int getTableIdDigitCount() {
         return tableIdDigitCount;
     }
@@ -18,8 +18,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -28,6 +32,10 @@ import org.knowm.yank.Yank;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemUtil;
+import org.openhab.core.library.items.ColorItem;
+import org.openhab.core.library.items.DimmerItem;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.RollershutterItem;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceItemInfo;
@@ -36,6 +44,7 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.slf4j.Logger;
@@ -56,10 +65,11 @@ public class JdbcMapper {
     private final TimeZoneProvider timeZoneProvider;
 
     // Error counter - used to reconnect to database on error
-    protected int errCnt;
+    protected final AtomicInteger errCnt = new AtomicInteger();
     protected boolean initialized = false;
     protected @NonNullByDefault({}) JdbcConfiguration conf;
-    protected final Map<String, String> itemNameToTableNameMap = new HashMap<>();
+    protected final Map<String, String> itemNameToTableNameMap = new ConcurrentHashMap<>();
+    protected final Map<String, Integer> itemNameToItemIdMap = new ConcurrentHashMap<>();
     protected @NonNullByDefault({}) NamingStrategy namingStrategy;
     private long afterAccessMin = 10000;
     private long afterAccessMax = 0;
@@ -204,6 +214,13 @@ public class JdbcMapper {
         return vo;
     }
 
+    private void createSingleTableIfNot() throws JdbcSQLException {
+        logger.debug("JDBC::createSingleTableIfNot");
+        long timerStart = System.currentTimeMillis();
+        conf.getDBDAO().doCreateSingleTableIfNot(conf.getSingleTableName());
+        logTime("createSingleTableIfNot", timerStart, System.currentTimeMillis());
+    }
+
     protected void alterTableColumn(String tableName, String columnName, String columnType, boolean nullable)
             throws JdbcSQLException {
         logger.debug("JDBC::alterTableColumn");
@@ -217,13 +234,33 @@ public class JdbcMapper {
         logger.debug("JDBC::storeItemValue: item={} state={} date={}", item, itemState, date);
         String tableName = getTable(item, alias);
         long timerStart = System.currentTimeMillis();
-        if (date == null) {
+        if (conf.isSingleTable()) {
+            conf.getDBDAO().doStoreSingleTableValues(tableName,
+                    List.of(Map.entry(getItemId(alias != null ? alias : item.getName()),
+                            new JdbcStoreRequest(item, itemState, date, alias))));
+        } else if (date == null) {
             conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null));
         } else {
             conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null), date);
         }
         logTime("storeItemValue", timerStart, System.currentTimeMillis());
-        errCnt = 0;
+        errCnt.set(0);
+    }
+
+    protected void storeItemValues(String tableName, List<JdbcStoreRequest> values) throws JdbcException {
+        logger.debug("JDBC::storeItemValues: table={} count={}", tableName, values.size());
+        long timerStart = System.currentTimeMillis();
+        if (conf.isSingleTable()) {
+            List<Map.Entry<Integer, JdbcStoreRequest>> itemValues = new ArrayList<>(values.size());
+            for (JdbcStoreRequest value : values) {
+                itemValues.add(Map.entry(getItemId(value.getName()), value));
+            }
+            conf.getDBDAO().doStoreSingleTableValues(tableName, itemValues);
+        } else {
+            conf.getDBDAO().doStoreItemValues(tableName, values);
+        }
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt.set(0);
     }
 
     public long getRowCount(String tableName) throws JdbcSQLException {
@@ -239,16 +276,84 @@ public class JdbcMapper {
         List<HistoricItem> result = conf.getDBDAO().doGetHistItemFilterQuery(item, filter, numberDecimalcount, table,
                 item.getName(), timeZoneProvider.getTimeZone());
         logTime("getHistItemFilterQuery", timerStart, System.currentTimeMillis());
-        errCnt = 0;
+        errCnt.set(0);
+        return result;
+    }
+
+    protected List<HistoricItem> getSingleTableHistItemFilterQuery(FilterCriteria filter, String table, Item item,
+            String itemName) throws JdbcSQLException {
+        logger.debug("JDBC::getSingleTableHistItemFilterQuery filter='{}' table='{}' item='{}' itemName='{}'", true,
+                table, item, itemName);
+        Integer itemId = itemNameToItemIdMap.get(itemName);
+        if (itemId == null) {
+            return List.of();
+        }
+        long timerStart = System.currentTimeMillis();
+        List<HistoricItem> result = conf.getDBDAO().doGetSingleTableHistItemFilterQuery(item, filter, table, itemId,
+                timeZoneProvider.getTimeZone());
+        logTime("getSingleTableHistItemFilterQuery", timerStart, System.currentTimeMillis());
+        errCnt.set(0);
+        return result;
+    }
+
+    /**
+     * Get the size of the time buckets a query should be aggregated into.
+     *
+     * Values are only aggregated for queries of numeric items over a time range without paging, when the range spans
+     * more seconds than the configured number of buckets.
+     *
+     * @param filter the filter of the query
+     * @param item the queried item
+     * @return the bucket size in seconds, or 0 if the values should not be aggregated
+     */
+    protected long getAggregationBucketSeconds(FilterCriteria filter, Item item) {
+        int buckets = conf.getAggregationBuckets();
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        if (buckets <= 0 || beginDate == null || endDate == null || filter.getPageSize() != Integer.MAX_VALUE
+                || !(item instanceof NumberItem || item instanceof DimmerItem || item instanceof RollershutterItem)
+                || item instanceof ColorItem) {
+            return 0;
+        }
+        long rangeSeconds = endDate.toEpochSecond() - beginDate.toEpochSecond();
+        return rangeSeconds > buckets ? (rangeSeconds + buckets - 1) / buckets : 0;
+    }
+
+    protected List<HistoricItem> getAggregatedHistItemFilterQuery(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item, String itemName, long bucketSeconds) throws JdbcSQLException {
+        logger.debug("JDBC::getAggregatedHistItemFilterQuery filter='{}' table='{}' item='{}' bucketSeconds={}", true,
+                table, item, bucketSeconds);
+        Integer itemId = null;
+        if (conf.isSingleTable()) {
+            itemId = itemNameToItemIdMap.get(itemName);
+            if (itemId == null) {
+                return List.of();
+            }
+        }
+        long timerStart = System.currentTimeMillis();
+        List<HistoricItem> result = conf.getDBDAO().doGetAggregatedHistItemFilterQuery(item, filter,
+                numberDecimalcount, table, item.getName(), itemId, timeZoneProvider.getTimeZone(), bucketSeconds,
+                conf.getAggregationFunction());
+        logTime("getAggregatedHistItemFilterQuery", timerStart, System.currentTimeMillis());
+        errCnt.set(0);
         return result;
     }
 
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
-        conf.getDBDAO().doDeleteItemValues(filter, table, timeZoneProvider.getTimeZone());
+        String itemName = filter.getItemName();
+        if (conf.isSingleTable()) {
+            Integer itemId = itemName != null ? itemNameToItemIdMap.get(itemName) : null;
+            if (itemId == null) {
+                return;
+            }
+            conf.getDBDAO().doDeleteSingleTableItemValues(filter, table, itemId, timeZoneProvider.getTimeZone());
+        } else {
+            conf.getDBDAO().doDeleteItemValues(filter, table, timeZoneProvider.getTimeZone());
+        }
         logTime("deleteItemValues", timerStart, System.currentTimeMillis());
-        errCnt = 0;
+        errCnt.set(0);
     }
 
     /***********************
@@ -298,12 +403,12 @@ public class JdbcMapper {
             boolean p = pingDB();
             if (p) {
                 logger.debug("JDBC::checkDBAcessability, first try connection: {}", p);
-                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
+                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt.get() <= conf.getErrReconnectThreshold()));
             } else {
                 // second
                 p = pingDB();
                 logger.debug("JDBC::checkDBAcessability, second try connection: {}", p);
-                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
+                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt.get() <= conf.getErrReconnectThreshold()));
             }
         } catch (JdbcSQLException e) {
             logger.warn("Unable to ping database", e);
@@ -318,6 +423,16 @@ public class JdbcMapper {
         ItemsVO vo = new ItemsVO();
         vo.setItemsManageTable(conf.getItemsManageTable());
 
+        if (conf.isSingleTable()) {
+            // Item ids are always required to key the single table
+            createItemsTableIfNot(vo);
+            createSingleTableIfNot();
+            if (conf.getRebuildTableNames()) {
+                logger.info("JDBC::checkDBSchema: 'rebuildTableNames' is ignored when 'singleTable' is enabled");
+            }
+            populateItemNameToTableNameMap();
+            return;
+        }
         if (!conf.getTableUseRealCaseSensitiveItemNames()) {
             createItemsTableIfNot(vo);
         }
@@ -330,14 +445,26 @@ public class JdbcMapper {
             logger.info(
                     "JDBC::checkDBSchema: Rebuild complete, configure the 'rebuildTableNames' setting to 'false' to stop rebuilds on startup");
             // Reset the error counter
-            errCnt = 0;
+            errCnt.set(0);
         }
         populateItemNameToTableNameMap();
     }
 
     public void populateItemNameToTableNameMap() throws JdbcSQLException {
         itemNameToTableNameMap.clear();
-        if (conf.getTableUseRealCaseSensitiveItemNames()) {
+        itemNameToItemIdMap.clear();
+        if (conf.isSingleTable()) {
+            String singleTableName = conf.getSingleTableName();
+            for (ItemsVO vo : getItemIDTableNames()) {
+                String itemName = vo.getItemName();
+                if (!ItemUtil.isValidItemName(itemName)) {
+                    logger.warn("Skipping invalid item name {}", itemName);
+                    continue;
+                }
+                itemNameToItemIdMap.put(itemName, vo.getItemId());
+                itemNameToTableNameMap.put(itemName, singleTableName);
+            }
+        } else if (conf.getTableUseRealCaseSensitiveItemNames()) {
             for (String itemName : getItemTables().stream().map(t -> t.getTableName()).collect(Collectors.toList())) {
                 itemNameToTableNameMap.put(itemName, itemName);
             }
@@ -348,6 +475,7 @@ public class JdbcMapper {
                     logger.warn("Skipping invalid item name {}", itemName);
                     continue;
                 }
+                itemNameToItemIdMap.put(itemName, vo.getItemId());
                 itemNameToTableNameMap.put(vo.getItemName(),
                         namingStrategy.getTableName(vo.getItemId(), vo.getItemName()));
             }
@@ -366,10 +494,28 @@ public class JdbcMapper {
             return tableName;
         }
 
+        return createTable(item, itemName);
+    }
+
+    private synchronized String createTable(Item item, String itemName) throws JdbcException {
+        // Table may have been created by another writer thread in the meantime
+        String tableName = itemNameToTableNameMap.get(itemName);
+        if (tableName != null) {
+            return tableName;
+        }
+
         logger.debug("JDBC::getTable: no table found for item '{}' in itemNameToTableNameMap", itemName);
 
         int itemId = 0;
 
+        if (conf.isSingleTable()) {
+            itemId = createItemId(itemName);
+            itemNameToItemIdMap.put(itemName, itemId);
+            tableName = conf.getSingleTableName();
+            itemNameToTableNameMap.put(itemName, tableName);
+            return tableName;
+        }
+
         if (!conf.getTableUseRealCaseSensitiveItemNames()) {
             // Create a new entry in items table
             ItemsVO isvo = new ItemsVO();
@@ -399,6 +545,65 @@ public class JdbcMapper {
         return tableName;
     }
 
+    private int createItemId(String itemName) throws JdbcException {
+        ItemsVO isvo = new ItemsVO();
+        isvo.setItemName(itemName);
+        isvo.setItemsManageTable(conf.getItemsManageTable());
+        isvo = createNewEntryInItemsTable(isvo);
+        int itemId = isvo.getItemId();
+        if (itemId == 0) {
+            throw new JdbcException("Creating items entry for item " + itemName + " failed");
+        }
+        return itemId;
+    }
+
+    private int getItemId(String itemName) throws JdbcException {
+        Integer itemId = itemNameToItemIdMap.get(itemName);
+        if (itemId == null) {
+            throw new JdbcException("No item id found for item " + itemName);
+        }
+        return itemId;
+    }
+
+    /**
+     * Get the item tables created before the single table mode was enabled, which still hold values to migrate.
+     *
+     * @return map of item names to item table names
+     * @throws JdbcException on SQL errors
+     */
+    protected Map<String, String> getItemTablesToMigrate() throws JdbcException {
+        String singleTableName = conf.getSingleTableName();
+        Set<String> itemTables = getItemTables().stream().map(ItemsVO::getTableName)
+                .filter(t -> !t.equals(singleTableName) && !t.startsWith(singleTableName + "_"))
+                .collect(Collectors.toSet());
+        if (conf.getTableUseRealCaseSensitiveItemNames()) {
+            // Tables are named after the items and have no entry in the items table yet
+            for (String itemName : itemTables) {
+                if (ItemUtil.isValidItemName(itemName) && !itemNameToItemIdMap.containsKey(itemName)) {
+                    itemNameToItemIdMap.put(itemName, createItemId(itemName));
+                    itemNameToTableNameMap.put(itemName, singleTableName);
+                }
+            }
+        }
+        Map<String, String> tablesToMigrate = new TreeMap<>();
+        for (Entry<String, Integer> entry : itemNameToItemIdMap.entrySet()) {
+            String tableName = namingStrategy.getTableName(entry.getValue(), entry.getKey());
+            if (itemTables.contains(tableName)) {
+                tablesToMigrate.put(entry.getKey(), tableName);
+            }
+        }
+        return tablesToMigrate;
+    }
+
+    protected int copyItemTableToSingleTable(String itemName, String tableName, Item item) throws JdbcException {
+        logger.debug("JDBC::copyItemTableToSingleTable item='{}' table='{}'", itemName, tableName);
+        long timerStart = System.currentTimeMillis();
+        int rows = conf.getDBDAO().doCopyItemTableToSingleTable(tableName, conf.getSingleTableName(),
+                getItemId(itemName), item);
+        logTime("copyItemTableToSingleTable", timerStart, System.currentTimeMillis());
+        return rows;
+    }
+
     private void formatTableNames() throws JdbcSQLException {
         boolean tmpinit = initialized;
         if (tmpinit) {
@@ -16,18 +16,16 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.items.GroupItem;
@@ -46,6 +44,7 @@ import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.framework.BundleContext;
@@ -64,18 +63,19 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Migration to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class,
-        QueryablePersistenceService.class }, configurationPid = "org.openhab.jdbc", //
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class,
+        JdbcPersistenceService.class }, configurationPid = "org.openhab.jdbc", //
         property = Constants.SERVICE_PID + "=org.openhab.jdbc")
 @ConfigurableService(category = "persistence", label = "JDBC Persistence Service", description_uri = JdbcPersistenceServiceConstants.CONFIG_URI)
 public class JdbcPersistenceService extends JdbcMapper implements ModifiablePersistenceService {
 
+    private static final long WRITE_QUEUE_STOP_TIMEOUT = 10000;
+
     private final Logger logger = LoggerFactory.getLogger(JdbcPersistenceService.class);
 
     private final ItemRegistry itemRegistry;
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
-            new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
+    private @Nullable JdbcWriteQueue writeQueue;
 
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -98,6 +98,10 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void activate(BundleContext bundleContext, Map<Object, Object> configuration) {
         logger.debug("JDBC::activate: persistence service activated");
         updateConfig(configuration);
+        JdbcWriteQueue writeQueue = new JdbcWriteQueue(conf.getWriteQueueSize(), conf.getBatchSize(),
+                conf.getBatchInterval(), conf.getWriterThreads(), this::internalStore);
+        writeQueue.start();
+        this.writeQueue = writeQueue;
     }
 
     /**
@@ -120,6 +124,12 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        JdbcWriteQueue writeQueue = this.writeQueue;
+        if (writeQueue != null) {
+            // write pending values before the service becomes unusable
+            writeQueue.stop(WRITE_QUEUE_STOP_TIMEOUT);
+            this.writeQueue = null;
+        }
         // closeConnection();
         initialized = false;
     }
@@ -137,49 +147,121 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        enqueue(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        enqueue(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        enqueue(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        enqueue(item, date, state, alias);
     }
 
-    private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
-            @Nullable String alias) {
+    private void enqueue(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
         // Do not store undefined/uninitialized data
         if (state instanceof UnDefType) {
             logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
             return;
         }
+        JdbcWriteQueue writeQueue = this.writeQueue;
+        if (writeQueue == null) {
+            logger.debug("JDBC::store: service not activated, ignore Item '{}'", item.getName());
+            return;
+        }
+        // The time is taken when the value is queued. The database time would be off by the queue latency, several
+        // values of a batch would get the same timestamp, and with several writer threads values of an item could be
+        // stored out of order.
+        ZonedDateTime storeDate = date == null ? ZonedDateTime.now() : date;
+        writeQueue.offer(new JdbcStoreRequest(item, state, storeDate, alias));
+    }
+
+    /**
+     * Writes a batch of values taken from the write queue.
+     *
+     * Values are grouped by table and each group is written with a single batch statement in one transaction. If a
+     * batch fails, it is rolled back and the values of that group are retried one by one, so a single invalid value
+     * doesn't discard the whole batch.
+     *
+     * @param requests values to write
+     * @return number of values written successfully
+     */
+    private int internalStore(List<JdbcStoreRequest> requests) {
         if (!checkDBAccessability()) {
             logger.warn(
-                    "JDBC::store: No connection to database. Cannot persist state '{}' for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
-                    state, item, errCnt, conf.getErrReconnectThreshold());
-            return;
+                    "JDBC::store: No connection to database. Cannot persist {} state(s)! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    requests.size(), errCnt.get(), conf.getErrReconnectThreshold());
+            return 0;
+        }
+        if (requests.size() == 1) {
+            return internalStore(requests.get(0)) ? 1 : 0;
+        }
+
+        Map<String, List<JdbcStoreRequest>> requestsByTable = new LinkedHashMap<>();
+        int written = 0;
+        for (JdbcStoreRequest request : requests) {
+            try {
+                String tableName = getTable(request.item(), request.alias());
+                requestsByTable.computeIfAbsent(tableName, t -> new ArrayList<>()).add(request);
+            } catch (JdbcException e) {
+                logger.warn("JDBC::store: Unable to store item", e);
+            }
+        }
+        for (Entry<String, List<JdbcStoreRequest>> entry : requestsByTable.entrySet()) {
+            List<JdbcStoreRequest> tableRequests = entry.getValue();
+            try {
+                long timerStart = System.currentTimeMillis();
+                storeItemValues(entry.getKey(), tableRequests);
+                written += tableRequests.size();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("JDBC: Stored {} value(s) for item '{}' in SQL database at {} in {} ms.",
+                            tableRequests.size(), tableRequests.get(0).getName(), new Date(),
+                            System.currentTimeMillis() - timerStart);
+                }
+            } catch (JdbcException e) {
+                logger.debug("JDBC::store: Batch for table '{}' failed, storing values one by one: {}", entry.getKey(),
+                        e.getMessage());
+                for (JdbcStoreRequest request : tableRequests) {
+                    if (internalStore(request)) {
+                        written++;
+                    }
+                }
+            }
         }
+        return written;
+    }
+
+    private boolean internalStore(JdbcStoreRequest request) {
+        Item item = request.item();
+        State state = request.state();
         try {
             long timerStart = System.currentTimeMillis();
-            storeItemValue(item, state, date, alias);
+            storeItemValue(item, state, request.date(), request.alias());
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
                         new Date(), System.currentTimeMillis() - timerStart);
             }
+            return true;
         } catch (JdbcException e) {
             logger.warn("JDBC::store: Unable to store item", e);
+            return false;
         }
     }
 
+    /**
+     * Get the write queue, if the service is active.
+     */
+    public @Nullable JdbcWriteQueue getWriteQueue() {
+        return writeQueue;
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return getItems();
@@ -207,6 +289,19 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
      */
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        return query(filter, alias, false);
+    }
+
+    /**
+     * Queries the {@link PersistenceService} for data with a given filter
+     * criteria
+     *
+     * @param filter the filter to apply to the query
+     * @param alias for the item
+     * @param aggregate true to aggregate the values of long time ranges, see {@link JdbcAggregatedPersistenceService}
+     * @return a time series of items
+     */
+    Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias, boolean aggregate) {
         if (!checkDBAccessability()) {
             logger.warn("JDBC::query: database not connected, query aborted for item '{}'", filter.getItemName());
             return List.of();
@@ -252,13 +347,22 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
         try {
             long timerStart = System.currentTimeMillis();
-            List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            long bucketSeconds = aggregate ? getAggregationBucketSeconds(filter, item) : 0;
+            List<HistoricItem> items;
+            if (bucketSeconds > 0) {
+                items = getAggregatedHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item,
+                        localAlias, bucketSeconds);
+            } else if (conf.isSingleTable()) {
+                items = getSingleTableHistItemFilterQuery(filter, table, item, localAlias);
+            } else {
+                items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            }
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
                         System.currentTimeMillis() - timerStart);
             }
             // Success
-            errCnt = 0;
+            errCnt.set(0);
             return items;
         } catch (JdbcSQLException e) {
             logger.warn("JDBC::query: Unable to query item", e);
@@ -341,6 +445,55 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         return itemNameToTableNameMap;
     }
 
+    /**
+     * Checks if the values of all items are stored in one table.
+     */
+    public boolean isSingleTable() {
+        return conf.isSingleTable();
+    }
+
+    /**
+     * Get the item tables which still hold values to migrate into the single table.
+     *
+     * @return map of item names to item table names
+     * @throws JdbcException on SQL errors
+     */
+    public Map<String, String> getItemTablesToMigrate() throws JdbcException {
+        if (!conf.isSingleTable() || !checkDBAccessability()) {
+            return Map.of();
+        }
+        return super.getItemTablesToMigrate();
+    }
+
+    /**
+     * Copy all values of an item table into the single table. Values already present in the single table are kept,
+     * and the item table is left untouched.
+     *
+     * @param itemName name of the item
+     * @param tableName item table to copy from
+     * @return number of copied rows, or -1 if the item is unknown
+     * @throws JdbcException on SQL errors
+     */
+    public int migrateItemTable(String itemName, String tableName) throws JdbcException {
+        if (!conf.isSingleTable() || !checkDBAccessability()) {
+            return 0;
+        }
+        Item item;
+        try {
+            item = itemRegistry.getItem(itemName);
+        } catch (ItemNotFoundException e) {
+            return -1;
+        }
+        if (item instanceof GroupItem groupItem) {
+            Item baseItem = groupItem.getBaseItem();
+            if (baseItem == null) {
+                return -1;
+            }
+            item = baseItem;
+        }
+        return copyItemTableToSingleTable(itemName, tableName, item);
+    }
+
     /**
      * Check schema of specific item table for integrity issues.
      *
@@ -356,6 +509,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn("JDBC::getSchemaIssues: database not connected");
             return issues;
         }
+        if (conf.isSingleTable()) {
+            return issues;
+        }
 
         Item item;
         try {
@@ -416,6 +572,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn("JDBC::fixSchemaIssues: database not connected");
             return false;
         }
+        if (conf.isSingleTable()) {
+            return false;
+        }
 
         Item item;
         try {
@@ -467,6 +626,10 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn("JDBC::getCheckedEntries: database not connected");
             return entries;
         }
+        if (conf.isSingleTable()) {
+            // All items share one table, which must never be reported as orphan or dropped
+            return entries;
+        }
 
         var orphanTables = getItemTables().stream().map(ItemsVO::getTableName).collect(Collectors.toSet());
         for (Entry<String, String> entry : itemNameToTableNameMap.entrySet()) {
@@ -545,6 +708,10 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn("JDBC::cleanupItem: database not connected");
             return false;
         }
+        if (conf.isSingleTable()) {
+            logger.warn("JDBC::cleanupItem: not supported when 'singleTable' is enabled");
+            return false;
+        }
 
         ItemTableCheckEntryStatus status = entry.getStatus();
         String tableName = entry.getTableName();
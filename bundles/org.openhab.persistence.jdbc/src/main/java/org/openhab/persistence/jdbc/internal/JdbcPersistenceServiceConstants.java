@@ -26,4 +26,6 @@ public class JdbcPersistenceServiceConstants {
     public static final String SERVICE_ID = "jdbc";
     public static final String SERVICE_LABEL = "JDBC";
     public static final String CONFIG_URI = "persistence:jdbc";
+    public static final String AGGREGATED_SERVICE_ID = "jdbcaggregated";
+    public static final String AGGREGATED_SERVICE_LABEL = "JDBC (aggregated)";
 }
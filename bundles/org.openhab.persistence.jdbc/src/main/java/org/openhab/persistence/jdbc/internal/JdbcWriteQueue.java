@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded write queue feeding one or more writer threads.
+ *
+ * Each writer thread collects up to <code>batchSize</code> requests, waiting at most <code>batchInterval</code>
+ * milliseconds after the first request of a batch, and hands them over to the writer function in one go. When the
+ * queue is full, new requests are dropped and counted instead of blocking the caller.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteQueue {
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcWriteQueue.class);
+
+    private final BlockingQueue<JdbcStoreRequest> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final long batchInterval;
+    private final int writerThreads;
+    private final ToIntFunction<List<JdbcStoreRequest>> writer;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean overflowing = new AtomicBoolean();
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicInteger peakDepth = new AtomicInteger();
+
+    private @Nullable ExecutorService executor;
+
+    /**
+     * Creates a new write queue. The queue must be started with {@link #start()} before requests are written.
+     *
+     * @param capacity maximum number of pending requests
+     * @param batchSize maximum number of requests handed to the writer at once
+     * @param batchInterval maximum time in milliseconds to wait for a batch to fill up
+     * @param writerThreads number of threads writing concurrently
+     * @param writer function writing a batch and returning the number of successfully written requests
+     */
+    public JdbcWriteQueue(int capacity, int batchSize, long batchInterval, int writerThreads,
+            ToIntFunction<List<JdbcStoreRequest>> writer) {
+        this.capacity = Math.max(1, capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.batchInterval = Math.max(0, batchInterval);
+        this.writerThreads = Math.max(1, writerThreads);
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(this.capacity);
+    }
+
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(writerThreads,
+                new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
+        for (int i = 0; i < writerThreads; i++) {
+            executor.execute(this::processQueue);
+        }
+        this.executor = executor;
+        logger.debug("JDBC::JdbcWriteQueue: started {} writer thread(s), capacity={}, batchSize={}, batchInterval={}",
+                writerThreads, capacity, batchSize, batchInterval);
+    }
+
+    /**
+     * Stops the writer threads and writes all requests which are still pending.
+     *
+     * @param timeout maximum time in milliseconds to wait for the writer threads to finish their current batch
+     */
+    public void stop(long timeout) {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+        ExecutorService executor = this.executor;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            this.executor = null;
+        }
+        List<JdbcStoreRequest> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            write(remaining);
+            remaining = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Adds a request to the queue.
+     *
+     * @param request the request to add
+     * @return true if the request was queued, false if it was dropped because the queue is full
+     */
+    public boolean offer(JdbcStoreRequest request) {
+        if (!queue.offer(request)) {
+            droppedCount.incrementAndGet();
+            if (overflowing.compareAndSet(false, true)) {
+                logger.warn(
+                        "JDBC::store: Write queue is full ({} pending values), dropping values until the database catches up",
+                        capacity);
+            }
+            return false;
+        }
+        enqueuedCount.incrementAndGet();
+        peakDepth.accumulateAndGet(queue.size(), Math::max);
+        if (overflowing.compareAndSet(true, false)) {
+            logger.info("JDBC::store: Write queue accepts values again, {} values were dropped so far",
+                    droppedCount.get());
+        }
+        return true;
+    }
+
+    private void processQueue() {
+        while (running.get()) {
+            try {
+                @Nullable
+                JdbcStoreRequest first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<JdbcStoreRequest> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchInterval);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    @Nullable
+                    JdbcStoreRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("JDBC::JdbcWriteQueue: Unexpected error while writing values", e);
+            }
+        }
+    }
+
+    private void write(List<JdbcStoreRequest> batch) {
+        int written = writer.applyAsInt(batch);
+        batchCount.incrementAndGet();
+        writtenCount.addAndGet(written);
+        failedCount.addAndGet(batch.size() - written);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getWriterThreads() {
+        return writerThreads;
+    }
+
+    /**
+     * Get the number of requests currently waiting to be written.
+     */
+    public int getDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Get the highest number of requests that were waiting at the same time.
+     */
+    public int getPeakDepth() {
+        return peakDepth.get();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+}
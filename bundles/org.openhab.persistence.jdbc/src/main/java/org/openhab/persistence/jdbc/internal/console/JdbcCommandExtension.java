@@ -34,6 +34,8 @@ import org.openhab.persistence.jdbc.internal.ItemTableCheckEntry;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntryStatus;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceService;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceServiceConstants;
+import org.openhab.persistence.jdbc.internal.JdbcWriteQueue;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -51,16 +53,18 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String CMD_SCHEMA = "schema";
     private static final String CMD_TABLES = "tables";
     private static final String CMD_RELOAD = "reload";
+    private static final String CMD_QUEUE = "queue";
     private static final String SUBCMD_SCHEMA_CHECK = "check";
     private static final String SUBCMD_SCHEMA_FIX = "fix";
+    private static final String SUBCMD_SCHEMA_MIGRATE = "migrate";
     private static final String SUBCMD_TABLES_LIST = "list";
     private static final String SUBCMD_TABLES_CLEAN = "clean";
     private static final String PARAMETER_ALL = "all";
     private static final String PARAMETER_FORCE = "force";
     private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
-            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD), false);
+            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD, CMD_QUEUE), false);
     private static final StringsCompleter SUBCMD_SCHEMA_COMPLETER = new StringsCompleter(
-            List.of(SUBCMD_SCHEMA_CHECK, SUBCMD_SCHEMA_FIX), false);
+            List.of(SUBCMD_SCHEMA_CHECK, SUBCMD_SCHEMA_FIX, SUBCMD_SCHEMA_MIGRATE), false);
     private static final StringsCompleter SUBCMD_TABLES_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_TABLES_LIST, SUBCMD_TABLES_CLEAN), false);
 
@@ -103,6 +107,15 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
 
     private boolean execute(JdbcPersistenceService persistenceService, String[] args, Console console)
             throws JdbcSQLException {
+        if (args.length == 2 && CMD_SCHEMA.equalsIgnoreCase(args[0])
+                && SUBCMD_SCHEMA_MIGRATE.equalsIgnoreCase(args[1])) {
+            migrateSchema(persistenceService, console);
+            return true;
+        } else if (args.length > 1 && (CMD_TABLES.equalsIgnoreCase(args[0]) || CMD_SCHEMA.equalsIgnoreCase(args[0]))
+                && persistenceService.isSingleTable()) {
+            console.println("Not available when all items are stored in a single table.");
+            return true;
+        }
         if (args.length > 1 && CMD_TABLES.equalsIgnoreCase(args[0])) {
             if (SUBCMD_TABLES_LIST.equalsIgnoreCase(args[1])) {
                 listTables(persistenceService, console, args.length == 3 && PARAMETER_ALL.equalsIgnoreCase(args[2]));
@@ -135,6 +148,9 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         } else if (args.length == 1 && CMD_RELOAD.equalsIgnoreCase(args[0])) {
             reload(persistenceService, console);
             return true;
+        } else if (args.length == 1 && CMD_QUEUE.equalsIgnoreCase(args[0])) {
+            showQueue(persistenceService, console);
+            return true;
         }
         return false;
     }
@@ -163,6 +179,40 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         }
     }
 
+    private void migrateSchema(JdbcPersistenceService persistenceService, Console console) {
+        if (!persistenceService.isSingleTable()) {
+            console.println("Enable the 'singleTable' setting before migrating item tables.");
+            return;
+        }
+        Map<String, String> itemTables;
+        try {
+            itemTables = persistenceService.getItemTablesToMigrate();
+        } catch (JdbcException e) {
+            console.println("Failed to find item tables: " + e.getMessage());
+            return;
+        }
+        if (itemTables.isEmpty()) {
+            console.println("Nothing to migrate.");
+            return;
+        }
+        for (Entry<String, String> entry : itemTables.entrySet()) {
+            String itemName = entry.getKey();
+            String tableName = entry.getValue();
+            console.print("Migrating table '" + tableName + "' for item '" + itemName + "'... ");
+            try {
+                int rows = persistenceService.migrateItemTable(itemName, tableName);
+                if (rows < 0) {
+                    console.println("skipped, item not found.");
+                } else {
+                    console.println(rows + " rows copied.");
+                }
+            } catch (JdbcException e) {
+                console.println("failed: " + e.getMessage());
+            }
+        }
+        console.println("Migrated item tables are kept and can be dropped manually once verified.");
+    }
+
     private void fixSchema(JdbcPersistenceService persistenceService, Console console) {
         List<Entry<String, String>> itemNameToTableName = persistenceService.getItemNameToTableNameMap().entrySet()
                 .stream().sorted(Map.Entry.comparingByKey()).collect(Collectors.toList());
@@ -252,16 +302,36 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         console.println("Item index reloaded.");
     }
 
+    private void showQueue(JdbcPersistenceService persistenceService, Console console) {
+        JdbcWriteQueue writeQueue = persistenceService.getWriteQueue();
+        if (writeQueue == null) {
+            console.println("Write queue not active.");
+            return;
+        }
+        console.println(String.format("Writer threads:  %d", writeQueue.getWriterThreads()));
+        console.println(String.format("Batch size:      %d", writeQueue.getBatchSize()));
+        console.println(String.format("Capacity:        %d", writeQueue.getCapacity()));
+        console.println(String.format("Pending:         %d", writeQueue.getDepth()));
+        console.println(String.format("Peak pending:    %d", writeQueue.getPeakDepth()));
+        console.println(String.format("Queued:          %d", writeQueue.getEnqueuedCount()));
+        console.println(String.format("Written:         %d", writeQueue.getWrittenCount()));
+        console.println(String.format("Failed:          %d", writeQueue.getFailedCount()));
+        console.println(String.format("Dropped:         %d", writeQueue.getDroppedCount()));
+        console.println(String.format("Batches:         %d", writeQueue.getBatchCount()));
+    }
+
     @Override
     public List<String> getUsages() {
         return Arrays.asList(buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_CHECK, "check schema integrity"),
                 buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_FIX + " [<itemName>]", "fix schema integrity"),
+                buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_MIGRATE, "copy item tables into the single table"),
                 buildCommandUsage(CMD_TABLES + " " + SUBCMD_TABLES_LIST + " [" + PARAMETER_ALL + "]",
                         "list tables (all = include valid)"),
                 buildCommandUsage(
                         CMD_TABLES + " " + SUBCMD_TABLES_CLEAN + " [<itemName>]" + " [" + PARAMETER_FORCE + "]",
                         "clean inconsistent items (remove from index and drop tables)"),
-                buildCommandUsage(CMD_RELOAD, "reload item index/schema"));
+                buildCommandUsage(CMD_RELOAD, "reload item index/schema"),
+                buildCommandUsage(CMD_QUEUE, "show write queue statistics"));
     }
 
     @Override
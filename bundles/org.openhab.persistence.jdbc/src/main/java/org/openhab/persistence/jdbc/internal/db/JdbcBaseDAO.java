@@ -13,18 +13,25 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -56,10 +63,12 @@ import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
+import org.openhab.persistence.jdbc.internal.dto.AggregationFunction;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
@@ -75,6 +84,9 @@ import org.slf4j.LoggerFactory;
 public class JdbcBaseDAO {
     private final Logger logger = LoggerFactory.getLogger(JdbcBaseDAO.class);
 
+    // Hint for drivers supporting cursors to fetch query results in chunks instead of all at once
+    private static final int QUERY_FETCH_SIZE = 1000;
+
     public final Properties databaseProps = new Properties();
     protected String urlSuffix = "";
     public final Map<String, String> sqlTypes = new HashMap<>();
@@ -97,6 +109,13 @@ public class JdbcBaseDAO {
     protected String sqlAlterTableColumn = "ALTER TABLE #tableName# MODIFY COLUMN #columnName# #columnType#";
     protected String sqlInsertItemValue = "INSERT INTO #tableName# (time, value) VALUES( #tablePrimaryValue#, ? ) ON DUPLICATE KEY UPDATE VALUE= ?";
     protected String sqlGetRowCount = "SELECT COUNT(*) FROM #tableName#";
+    protected String sqlCreateSingleTable = "CREATE TABLE IF NOT EXISTS #tableName# (itemid INT NOT NULL, time #tablePrimaryKey# NOT NULL, numvalue #numberType#, strvalue TEXT, timevalue #dateTimeType#, PRIMARY KEY(itemid, time))";
+    protected String sqlInsertSingleTableValue = "INSERT INTO #tableName# (itemid, time, numvalue, strvalue, timevalue) VALUES( ?, ?, ?, ?, ? ) ON DUPLICATE KEY UPDATE numvalue=VALUES(numvalue), strvalue=VALUES(strvalue), timevalue=VALUES(timevalue)";
+    protected String sqlCopyItemTableToSingleTable = "INSERT IGNORE INTO #singleTableName# (itemid, time, #valueColumn#) SELECT #itemId#, time, value FROM #tableName#";
+
+    public static final String SINGLE_TABLE_NUMBER_COLUMN = "numvalue";
+    public static final String SINGLE_TABLE_STRING_COLUMN = "strvalue";
+    public static final String SINGLE_TABLE_DATETIME_COLUMN = "timevalue";
 
     /********
      * INIT *
@@ -446,12 +465,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        String sql = storeItemValueWithTimeProvider(storedVO);
+        Object[] params = storeItemValueWithTimeParams(storedVO, date);
+        logger.debug("JDBC::doStoreItemValue sql={} date={} value='{}'", sql, date, storedVO.getValue());
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -459,26 +475,74 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several values into the same item table using a single JDBC batch.
+     *
+     * All values must belong to the table given by <code>tableName</code>, i.e. to the same item or alias. Values
+     * without a timestamp are stored with the current time of the openHAB host. The statement is the same one used by
+     * {@link #doStoreItemValue(Item, State, ItemVO, ZonedDateTime)}, so the database specific insert/upsert semantics
+     * are preserved.
+     *
+     * @param tableName the item table to insert into
+     * @param values the values to insert, each with its own timestamp
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(String tableName, List<JdbcStoreRequest> values) throws JdbcSQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        String sql = "";
+        Object[][] params = new Object[values.size()][];
+        for (int i = 0; i < values.size(); i++) {
+            JdbcStoreRequest value = values.get(i);
+            ItemVO storedVO = storeItemValueProvider(value.item(), value.state(), new ItemVO(tableName, null));
+            if (i == 0) {
+                sql = storeItemValueWithTimeProvider(storedVO);
+            }
+            ZonedDateTime date = value.date();
+            params[i] = storeItemValueWithTimeParams(storedVO, date != null ? date : ZonedDateTime.now());
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} batchSize={}", sql, params.length);
+        executeBatchInTransaction(sql, params);
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
         logger.debug("JDBC::doGetHistItemFilterQuery sql={}", sql);
-        List<Object[]> m;
-        try {
-            m = Yank.queryObjectArrays(sql, null);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
-        if (m == null) {
-            logger.debug("JDBC::doGetHistItemFilterQuery Query failed. Returning an empty list.");
-            return List.of();
-        }
-        // we already retrieve the unit here once as it is a very costly operation
-        String itemName = item.getName();
-        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
-        return m.stream()
-                .map(o -> new JdbcHistoricItem(itemName, objectAsState(item, unit, o[1]), objectAsInstant(o[0])))
-                .collect(Collectors.<HistoricItem> toList());
+        return queryHistoricItems(sql, item);
+    }
+
+    /**
+     * Checks if the database supports aggregating values into time buckets, see
+     * {@link #doGetAggregatedHistItemFilterQuery}.
+     */
+    public boolean supportsAggregation() {
+        return true;
+    }
+
+    /**
+     * Queries values of an item aggregated into time buckets, so that the database returns at most one row per bucket.
+     *
+     * @param item the item to query
+     * @param filter the filter, its page settings are ignored
+     * @param numberDecimalcount number of decimals to round number items to, or -1 to disable rounding
+     * @param table the item table, or the single table if <code>itemId</code> is given
+     * @param name the simple name of the item type, e.g. NUMBERITEM
+     * @param itemId the item id when the single table is queried, otherwise null
+     * @param timeZone the time zone of the database
+     * @param bucketSeconds the size of each time bucket in seconds
+     * @param function the function used to aggregate the values of each bucket
+     * @return the aggregated values
+     * @throws JdbcSQLException on SQL errors
+     */
+    public List<HistoricItem> doGetAggregatedHistItemFilterQuery(Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, String name, @Nullable Integer itemId, ZoneId timeZone,
+            long bucketSeconds, AggregationFunction function) throws JdbcSQLException {
+        String sql = histItemAggregateQueryProvider(filter, numberDecimalcount, table, name, itemId, timeZone,
+                bucketSeconds, function);
+        logger.debug("JDBC::doGetAggregatedHistItemFilterQuery sql={}", sql);
+        return queryHistoricItems(sql, item);
     }
 
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
@@ -503,6 +567,200 @@ public class JdbcBaseDAO {
         }
     }
 
+    /*********************
+     * SINGLE TABLE DAOs *
+     *********************/
+
+    /**
+     * Checks if the database supports storing all items in one table, see {@link #doCreateSingleTableIfNot(String)}.
+     */
+    public boolean supportsSingleTable() {
+        return true;
+    }
+
+    /**
+     * Creates the table holding the values of all items, keyed by item id and time.
+     *
+     * Values are stored in one of the typed columns <code>numvalue</code>, <code>strvalue</code> or
+     * <code>timevalue</code>, depending on the item type.
+     *
+     * @param tableName name of the table
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doCreateSingleTableIfNot(String tableName) throws JdbcSQLException {
+        String sql = StringUtilsExt.replaceArrayMerge(sqlCreateSingleTable,
+                new String[] { "#tableName#", "#tablePrimaryKey#", "#numberType#", "#dateTimeType#" },
+                new String[] { formattedIdentifier(tableName), sqlTypes.get("tablePrimaryKey"),
+                        sqlTypes.get("NUMBERITEM"), sqlTypes.get("DATETIMEITEM") });
+        logger.debug("JDBC::doCreateSingleTableIfNot sql={}", sql);
+        try {
+            Yank.execute(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    /**
+     * Stores values of one or more items into the single table using a single JDBC batch.
+     *
+     * @param tableName name of the single table
+     * @param values values to store, keyed by item id
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreSingleTableValues(String tableName, List<Map.Entry<Integer, JdbcStoreRequest>> values)
+            throws JdbcSQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertSingleTableValue, new String[] { "#tableName#" },
+                new String[] { formattedIdentifier(tableName) });
+        Object[][] params = new Object[values.size()][];
+        for (int i = 0; i < values.size(); i++) {
+            Map.Entry<Integer, JdbcStoreRequest> entry = values.get(i);
+            JdbcStoreRequest value = entry.getValue();
+            ItemVO storedVO = storeItemValueProvider(value.item(), value.state(), new ItemVO(tableName, null));
+            ZonedDateTime date = value.date();
+            java.sql.Timestamp timestamp = new java.sql.Timestamp(
+                    (date != null ? date.toInstant() : Instant.now()).toEpochMilli());
+            Object storedValue = storedVO.getValue();
+            params[i] = new Object[] { entry.getKey(), timestamp, storedValue instanceof Number ? storedValue : null,
+                    storedValue instanceof String ? storedValue : null,
+                    storedValue instanceof java.sql.Timestamp ? storedValue : null };
+        }
+        logger.debug("JDBC::doStoreSingleTableValues sql={} batchSize={}", sql, params.length);
+        executeBatchInTransaction(sql, params);
+    }
+
+    /**
+     * Executes a batch statement in one transaction. If any row fails, the whole batch is rolled back, so it can be
+     * retried row by row without writing rows twice.
+     */
+    private void executeBatchInTransaction(String sql, Object[][] params) throws JdbcSQLException {
+        try (Connection connection = Yank.getDefaultConnectionPool().getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                ParameterMetaData parameterMetaData = null;
+                for (Object[] row : params) {
+                    for (int i = 0; i < row.length; i++) {
+                        Object param = row[i];
+                        if (param != null) {
+                            statement.setObject(i + 1, param);
+                        } else {
+                            if (parameterMetaData == null) {
+                                parameterMetaData = statement.getParameterMetaData();
+                            }
+                            statement.setNull(i + 1, getParameterType(parameterMetaData, i + 1));
+                        }
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    private static int getParameterType(ParameterMetaData parameterMetaData, int param) {
+        try {
+            return parameterMetaData.getParameterType(param);
+        } catch (SQLException e) {
+            // not supported by all drivers, same fallback as Yank
+            return Types.VARCHAR;
+        }
+    }
+
+    public List<HistoricItem> doGetSingleTableHistItemFilterQuery(Item item, FilterCriteria filter, String table,
+            int itemId, ZoneId timeZone) throws JdbcSQLException {
+        String sql = singleTableHistItemFilterQueryProvider(filter, table, itemId, timeZone);
+        logger.debug("JDBC::doGetSingleTableHistItemFilterQuery sql={}", sql);
+        return queryHistoricItems(sql, item);
+    }
+
+    /**
+     * Runs a query returning the time in the first column and the value in the first non-null of the remaining
+     * columns. Rows are converted to historic items directly from the result set, without copying them to an
+     * intermediate list of raw rows first. The result is still fully read into a list, as the connection is released
+     * before the caller iterates it. The fetch size is only a hint: some drivers, e.g. PostgreSQL in auto-commit mode
+     * or MySQL without useCursorFetch, read the whole result anyway.
+     */
+    private List<HistoricItem> queryHistoricItems(String sql, Item item) throws JdbcSQLException {
+        // we already retrieve the unit here once as it is a very costly operation
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        boolean integerValues = (item instanceof DimmerItem || item instanceof RollershutterItem)
+                && !(item instanceof ColorItem);
+        List<HistoricItem> items = new ArrayList<>();
+        try (Connection connection = Yank.getDefaultConnectionPool().getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setFetchSize(QUERY_FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                int columnCount = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    Object time = resultSet.getObject(1);
+                    Object value = null;
+                    for (int i = 2; i <= columnCount && value == null; i++) {
+                        value = resultSet.getObject(i);
+                    }
+                    if (time == null || value == null) {
+                        continue;
+                    }
+                    if (integerValues && value instanceof Number number) {
+                        // aggregated or single table values are not necessarily returned as integer
+                        value = number.intValue();
+                    }
+                    items.add(new JdbcHistoricItem(itemName, objectAsState(item, unit, value), objectAsInstant(time)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        return items;
+    }
+
+    public void doDeleteSingleTableItemValues(FilterCriteria filter, String table, int itemId, ZoneId timeZone)
+            throws JdbcSQLException {
+        String sql = "DELETE FROM " + formattedIdentifier(table) + " WHERE itemid=" + itemId
+                + resolveTimeFilter(filter, timeZone).replace(" WHERE", " AND");
+        logger.debug("JDBC::doDeleteSingleTableItemValues sql={}", sql);
+        try {
+            Yank.execute(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    /**
+     * Copies all rows of an item table into the single table. Rows already present in the single table are kept.
+     *
+     * @param tableName item table to copy from
+     * @param singleTableName single table to copy to
+     * @param itemId id of the item
+     * @param item the item, used to determine the value column
+     * @return number of copied rows
+     * @throws JdbcSQLException on SQL errors
+     */
+    public int doCopyItemTableToSingleTable(String tableName, String singleTableName, int itemId, Item item)
+            throws JdbcSQLException {
+        String sql = StringUtilsExt.replaceArrayMerge(sqlCopyItemTableToSingleTable,
+                new String[] { "#singleTableName#", "#valueColumn#", "#itemId#", "#tableName#" },
+                new String[] { formattedIdentifier(singleTableName), getSingleTableValueColumn(item),
+                        String.valueOf(itemId), formattedIdentifier(tableName) });
+        logger.debug("JDBC::doCopyItemTableToSingleTable sql={}", sql);
+        try {
+            return Yank.execute(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     /*************
      * Providers *
      *************/
@@ -556,6 +814,84 @@ public class JdbcBaseDAO {
         return filterString;
     }
 
+    /**
+     * Provides the insert statement used for storing a value with an explicit timestamp.
+     *
+     * @param storedVO the prepared value, see {@link #storeItemValueProvider(Item, State, ItemVO)}
+     * @return SQL statement with placeholders matching {@link #storeItemValueWithTimeParams(ItemVO, ZonedDateTime)}
+     */
+    protected String storeItemValueWithTimeProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    protected Object[] storeItemValueWithTimeParams(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
+    protected String singleTableHistItemFilterQueryProvider(FilterCriteria filter, String table, int itemId,
+            ZoneId timeZone) {
+        String queryString = "SELECT time, " + SINGLE_TABLE_NUMBER_COLUMN + ", " + SINGLE_TABLE_STRING_COLUMN + ", "
+                + SINGLE_TABLE_DATETIME_COLUMN + " FROM " + formattedIdentifier(table) + " WHERE itemid=" + itemId
+                + resolveTimeFilter(filter, timeZone).replace(" WHERE", " AND");
+        queryString += (filter.getOrdering() == Ordering.ASCENDING) ? " ORDER BY time ASC" : " ORDER BY time DESC";
+        if (filter.getPageSize() != Integer.MAX_VALUE) {
+            queryString += limitProvider(filter);
+        }
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    protected String histItemAggregateQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
+            String simpleName, @Nullable Integer itemId, ZoneId timeZone, long bucketSeconds,
+            AggregationFunction function) {
+        logger.debug(
+                "JDBC::histItemAggregateQueryProvider filter = {}, table = {}, itemId = {}, bucketSeconds = {}, function = {}",
+                filter, table, itemId, bucketSeconds, function);
+        String valueColumn = itemId == null ? "value" : SINGLE_TABLE_NUMBER_COLUMN;
+        String itemCondition = itemId == null ? "" : "itemid=" + itemId;
+        String filterString = resolveTimeFilter(filter, timeZone);
+        if (!itemCondition.isEmpty()) {
+            filterString = " WHERE " + itemCondition + filterString.replace(" WHERE", " AND");
+        }
+        String bucket = timeBucketProvider(bucketSeconds);
+        String order = filter.getOrdering() == Ordering.ASCENDING ? " ASC" : " DESC";
+        String queryString;
+        if (function == AggregationFunction.LAST) {
+            // SELECT time, value FROM item0001 WHERE time IN (SELECT MAX(time) FROM item0001 WHERE ... GROUP BY bucket)
+            queryString = "SELECT time, " + valueColumn + " FROM " + formattedIdentifier(table) + " WHERE "
+                    + (itemCondition.isEmpty() ? "" : itemCondition + " AND ") + "time IN (SELECT MAX(time) FROM "
+                    + formattedIdentifier(table) + filterString + " GROUP BY " + bucket + ") ORDER BY time" + order;
+        } else {
+            // SELECT MIN(time), AVG(value) FROM item0001 WHERE ... GROUP BY bucket ORDER BY MIN(time)
+            String value = function.name() + "(" + valueColumn + ")";
+            if ("NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1) {
+                value = roundingProvider(value, numberDecimalcount);
+            }
+            queryString = "SELECT MIN(time), " + value + " FROM " + formattedIdentifier(table) + filterString
+                    + " GROUP BY " + bucket + " ORDER BY MIN(time)" + order;
+        }
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    /**
+     * Provides an expression grouping the <code>time</code> column into buckets of the given size.
+     */
+    protected String timeBucketProvider(long bucketSeconds) {
+        return "FLOOR(UNIX_TIMESTAMP(time) / " + bucketSeconds + ")";
+    }
+
+    protected String roundingProvider(String value, int numberDecimalcount) {
+        return "ROUND(" + value + "," + numberDecimalcount + ")";
+    }
+
+    protected String limitProvider(FilterCriteria filter) {
+        return " LIMIT " + filter.getPageNumber() * filter.getPageSize() + "," + filter.getPageSize();
+    }
+
     private String updateItemTableNamesProvider(ItemVO itemTable) {
         String newTableName = itemTable.getNewTableName();
         if (newTableName == null) {
@@ -800,6 +1136,20 @@ public class JdbcBaseDAO {
         return sqlTypes;
     }
 
+    /**
+     * Get the column of the single table the values of an item are stored in, based on its SQL data type.
+     */
+    public String getSingleTableValueColumn(Item item) {
+        String dataType = getDataType(item).toUpperCase();
+        if (dataType.contains("DOUBLE") || dataType.contains("FLOAT") || dataType.contains("DECIMAL")
+                || dataType.contains("NUMERIC") || dataType.contains("INT")) {
+            return SINGLE_TABLE_NUMBER_COLUMN;
+        } else if (dataType.contains("TIMESTAMP") || dataType.contains("DATETIME")) {
+            return SINGLE_TABLE_DATETIME_COLUMN;
+        }
+        return SINGLE_TABLE_STRING_COLUMN;
+    }
+
     public String getDataType(Item item) {
         String dataType = sqlTypes.get(getItemType(item));
         if (dataType == null) {
@@ -47,6 +47,11 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
 
     private final Logger logger = LoggerFactory.getLogger(JdbcPostgresqlDAO.class);
 
+    private static final int SINGLE_TABLE_PARTITIONS = 16;
+
+    private final String sqlCreatePartitionedSingleTable = "CREATE TABLE IF NOT EXISTS #tableName# (itemid INT NOT NULL, time #tablePrimaryKey# NOT NULL, numvalue #numberType#, strvalue TEXT, timevalue #dateTimeType#, PRIMARY KEY(itemid, time)) PARTITION BY HASH (itemid)";
+    private final String sqlCreateSingleTablePartition = "CREATE TABLE IF NOT EXISTS #partitionName# PARTITION OF #tableName# FOR VALUES WITH (MODULUS #modulus#, REMAINDER #remainder#)";
+
     /********
      * INIT *
      ********/
@@ -79,6 +84,12 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
         // existing value). The version check and query change is performed at initAfterFirstDbConnection()
         sqlInsertItemValue = "INSERT INTO #tableName# (TIME, VALUE) VALUES( #tablePrimaryValue#, CAST( ? as #dbType#) )";
         sqlAlterTableColumn = "ALTER TABLE #tableName# ALTER COLUMN #columnName# TYPE #columnType#";
+        // The single table mode requires PostgreSql >= 9.5 for "upsert"
+        sqlInsertSingleTableValue = """
+                INSERT INTO #tableName# (itemid, time, numvalue, strvalue, timevalue) VALUES( ?, ?, ?, ?, ? )\
+                 ON CONFLICT (itemid, time) DO UPDATE SET numvalue=EXCLUDED.numvalue, strvalue=EXCLUDED.strvalue, timevalue=EXCLUDED.timevalue\
+                """;
+        sqlCopyItemTableToSingleTable = "INSERT INTO #singleTableName# (itemid, time, #valueColumn#) SELECT #itemId#, time, value FROM #tableName# ON CONFLICT DO NOTHING";
     }
 
     @Override
@@ -229,21 +240,56 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
     }
 
     @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+    protected String storeItemValueWithTimeProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
                 new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
                 new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(), "?" });
+    }
+
+    @Override
+    protected Object[] storeItemValueWithTimeParams(ItemVO storedVO, ZonedDateTime date) {
         java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        return new Object[] { timestamp, storedVO.getValue() };
+    }
+
+    /*********************
+     * SINGLE TABLE DAOs *
+     *********************/
+
+    /*
+     * Override to spread the single table over hash partitions by item id on PostgreSql >= 11
+     */
+    @Override
+    public void doCreateSingleTableIfNot(String tableName) throws JdbcSQLException {
+        if (!isSingleTablePartitioned()) {
+            super.doCreateSingleTableIfNot(tableName);
+            return;
+        }
+        String sql = StringUtilsExt.replaceArrayMerge(sqlCreatePartitionedSingleTable,
+                new String[] { "#tableName#", "#tablePrimaryKey#", "#numberType#", "#dateTimeType#" },
+                new String[] { formattedIdentifier(tableName), sqlTypes.get("tablePrimaryKey"),
+                        sqlTypes.get("NUMBERITEM"), sqlTypes.get("DATETIMEITEM") });
+        logger.debug("JDBC::doCreateSingleTableIfNot sql={}", sql);
         try {
-            Yank.execute(sql, params);
+            Yank.execute(sql, null);
+            for (int i = 0; i < SINGLE_TABLE_PARTITIONS; i++) {
+                String partitionSql = StringUtilsExt.replaceArrayMerge(sqlCreateSingleTablePartition,
+                        new String[] { "#partitionName#", "#tableName#", "#modulus#", "#remainder#" },
+                        new String[] { formattedIdentifier(tableName + "_p" + i), formattedIdentifier(tableName),
+                                String.valueOf(SINGLE_TABLE_PARTITIONS), String.valueOf(i) });
+                logger.debug("JDBC::doCreateSingleTableIfNot sql={}", partitionSql);
+                Yank.execute(partitionSql, null);
+            }
         } catch (YankSQLException e) {
             throw new JdbcSQLException(e);
         }
     }
 
+    protected boolean isSingleTablePartitioned() {
+        DbMetaData dbMeta = this.dbMeta;
+        return dbMeta != null && dbMeta.isDbVersionGreater(10, 99);
+    }
+
     /****************************
      * SQL generation Providers *
      ****************************/
@@ -284,6 +330,21 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
         return queryString;
     }
 
+    @Override
+    protected String timeBucketProvider(long bucketSeconds) {
+        return "FLOOR(EXTRACT(EPOCH FROM time) / " + bucketSeconds + ")";
+    }
+
+    @Override
+    protected String roundingProvider(String value, int numberDecimalcount) {
+        return "ROUND(CAST (" + value + " AS numeric)," + numberDecimalcount + ")";
+    }
+
+    @Override
+    protected String limitProvider(FilterCriteria filter) {
+        return " OFFSET " + filter.getPageNumber() * filter.getPageSize() + " LIMIT " + filter.getPageSize();
+    }
+
     /*****************
      * H E L P E R S *
      *****************/
@@ -37,6 +37,7 @@ public class JdbcTimescaledbDAO extends JdbcPostgresqlDAO {
     private final Logger logger = LoggerFactory.getLogger(JdbcTimescaledbDAO.class);
 
     private final String sqlCreateHypertable = "SELECT created FROM create_hypertable('#tableName#', 'time')";
+    private final String sqlCreateSingleHypertable = "SELECT created FROM create_hypertable('#tableName#', 'time', if_not_exists => TRUE)";
     private final String sqlGetItemTables = "SELECT hypertable_name AS table_name FROM timescaledb_information.hypertables WHERE hypertable_name != '#itemsManageTable#'";
 
     @Override
@@ -77,4 +78,38 @@ public class JdbcTimescaledbDAO extends JdbcPostgresqlDAO {
             throw new JdbcSQLException(e);
         }
     }
+
+    /*********************
+     * SINGLE TABLE DAOs *
+     *********************/
+
+    @Override
+    public void doCreateSingleTableIfNot(String tableName) throws JdbcSQLException {
+        super.doCreateSingleTableIfNot(tableName);
+        String sql = StringUtilsExt.replaceArrayMerge(this.sqlCreateSingleHypertable, new String[] { "#tableName#" },
+                new String[] { formattedIdentifier(tableName) });
+        this.logger.debug("JDBC::doCreateSingleTableIfNot sql={}", sql);
+        try {
+            Yank.queryScalar(sql, Boolean.class, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    /*
+     * A hypertable is already chunked by time, and cannot be created from a partitioned table
+     */
+    @Override
+    protected boolean isSingleTablePartitioned() {
+        return false;
+    }
+
+    /****************************
+     * SQL generation Providers *
+     ****************************/
+
+    @Override
+    protected String timeBucketProvider(long bucketSeconds) {
+        return "time_bucket(INTERVAL '" + bucketSeconds + " seconds', time)";
+    }
 }
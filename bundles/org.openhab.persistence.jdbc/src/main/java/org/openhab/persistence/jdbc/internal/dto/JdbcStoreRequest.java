@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.dto;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+
+/**
+ * Represents a pending store operation waiting in the write queue.
+ *
+ * @param item the item to store
+ * @param state the state captured when the store was requested
+ * @param date the timestamp of the value, or null to let the database assign the current time
+ * @param alias the alias of the item, or null to use the item name
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public record JdbcStoreRequest(Item item, State state, @Nullable ZonedDateTime date, @Nullable String alias) {
+
+    public String getName() {
+        String alias = this.alias;
+        return alias != null ? alias : item.getName();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
+
+/**
+ * Tests the {@link JdbcWriteQueue}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteQueueTest {
+
+    private final NumberItem item = new NumberItem("Number");
+
+    private JdbcStoreRequest request(int value) {
+        return new JdbcStoreRequest(item, new DecimalType(value), null, null);
+    }
+
+    @Test
+    void offerDropsRequestsWhenQueueIsFull() {
+        JdbcWriteQueue queue = new JdbcWriteQueue(2, 10, 0, 1, List::size);
+
+        assertTrue(queue.offer(request(1)));
+        assertTrue(queue.offer(request(2)));
+        assertFalse(queue.offer(request(3)));
+
+        assertThat(queue.getDepth(), is(2));
+        assertThat(queue.getPeakDepth(), is(2));
+        assertThat(queue.getEnqueuedCount(), is(2L));
+        assertThat(queue.getDroppedCount(), is(1L));
+    }
+
+    @Test
+    void stopWritesPendingRequestsInBatches() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        JdbcWriteQueue queue = new JdbcWriteQueue(10, 3, 0, 1, batch -> {
+            batchSizes.add(batch.size());
+            return batch.size() - 1;
+        });
+        for (int i = 0; i < 5; i++) {
+            queue.offer(request(i));
+        }
+        queue.start();
+        queue.stop(5000);
+
+        assertThat(queue.getDepth(), is(0));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum(), is(5));
+        assertThat(batchSizes, everyItem(lessThanOrEqualTo(3)));
+        assertThat(queue.getWrittenCount() + queue.getFailedCount(), is(5L));
+        assertThat(queue.getFailedCount(), is((long) batchSizes.size()));
+    }
+
+    @Test
+    void writerCollectsRequestsIntoOneBatch() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        JdbcWriteQueue queue = new JdbcWriteQueue(100, 10, 10000, 1, batch -> {
+            batchSizes.add(batch.size());
+            latch.countDown();
+            return batch.size();
+        });
+        for (int i = 0; i < 10; i++) {
+            queue.offer(request(i));
+        }
+        queue.start();
+        boolean written = latch.await(5, TimeUnit.SECONDS);
+        queue.stop(5000);
+
+        assertTrue(written);
+        assertThat(batchSizes, contains(10));
+        assertThat(queue.getWrittenCount(), is(10L));
+        assertThat(queue.getBatchCount(), is(1L));
+    }
+}
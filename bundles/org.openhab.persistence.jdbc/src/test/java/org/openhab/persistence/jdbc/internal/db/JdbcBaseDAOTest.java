@@ -66,6 +66,7 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.AggregationFunction;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -247,6 +248,54 @@ public class JdbcBaseDAOTest {
                         + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
     }
 
+    @Test
+    void testSingleTableHistItemFilterQueryProviderWithStartDateReturnsSelectQueryForItemIdAndLimit() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setPageSize(10);
+        filter.setPageNumber(2);
+
+        String sql = jdbcBaseDAO.singleTableHistItemFilterQueryProvider(filter, DB_TABLE_NAME, 42, UTC_ZONE_ID);
+        assertThat(sql, is("SELECT time, numvalue, strvalue, timevalue FROM " + DB_TABLE_NAME
+                + " WHERE itemid=42 AND TIME>='"
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate()))
+                + "' ORDER BY time DESC LIMIT 20,10"));
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderReturnsGroupedSelectQuery() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = jdbcBaseDAO.histItemAggregateQueryProvider(filter, -1, DB_TABLE_NAME, "TEST", null, UTC_ZONE_ID,
+                300, AggregationFunction.AVG);
+        assertThat(sql, is("SELECT MIN(time), AVG(value) FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
+                + " AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate()))
+                + "' GROUP BY FLOOR(UNIX_TIMESTAMP(time) / 300) ORDER BY MIN(time) ASC"));
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderForLastValueInSingleTableReturnsSubquery() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+
+        String sql = jdbcBaseDAO.histItemAggregateQueryProvider(filter, -1, DB_TABLE_NAME, "TEST", 42, UTC_ZONE_ID,
+                60, AggregationFunction.LAST);
+        assertThat(sql, is("SELECT time, numvalue FROM " + DB_TABLE_NAME + " WHERE itemid=42 AND time IN " //
+                + "(SELECT MAX(time) FROM " + DB_TABLE_NAME + " WHERE itemid=42 AND TIME>='"
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate()))
+                + "' GROUP BY FLOOR(UNIX_TIMESTAMP(time) / 60)) ORDER BY time DESC"));
+    }
+
+    @Test
+    void testGetSingleTableValueColumnReturnsColumnMatchingItemType() {
+        assertThat(jdbcBaseDAO.getSingleTableValueColumn(new NumberItem("Number")), is("numvalue"));
+        assertThat(jdbcBaseDAO.getSingleTableValueColumn(new DimmerItem("Dimmer")), is("numvalue"));
+        assertThat(jdbcBaseDAO.getSingleTableValueColumn(new DateTimeItem("DateTime")), is("timevalue"));
+        assertThat(jdbcBaseDAO.getSingleTableValueColumn(new SwitchItem("Switch")), is("strvalue"));
+        assertThat(jdbcBaseDAO.getSingleTableValueColumn(new StringItem("String")), is("strvalue"));
+    }
+
     private ZonedDateTime parseDateTimeString(String dts) {
         return ZonedDateTime.of(LocalDateTime.parse(dts, DATE_PARSER), UTC_ZONE_ID);
     }
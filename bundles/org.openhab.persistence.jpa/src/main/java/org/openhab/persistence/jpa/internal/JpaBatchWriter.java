@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Buffers {@link JpaPersistentItem}s and persists them in batches.
+ *
+ * All items of a batch are persisted by one {@link EntityManager} in a single transaction, so OpenJPA can send the
+ * inserts as JDBC batch. If the transaction fails, e.g. because of a duplicate timestamp, the items are persisted one
+ * by one, so only the failing items are lost.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class JpaBatchWriter {
+    private static final int MAX_PENDING_BATCHES = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(JpaBatchWriter.class);
+
+    private final Supplier<EntityManagerFactory> emfSupplier;
+    private final Consumer<String> writeListener;
+    private final int batchSize;
+    private List<JpaPersistentItem> pending = new ArrayList<>();
+
+    /**
+     * @param emfSupplier provides the factory of the entity managers used for writing
+     * @param writeListener notified with the name and, if it differs, the real name of every written item
+     * @param batchSize the number of items persisted per transaction
+     */
+    public JpaBatchWriter(Supplier<EntityManagerFactory> emfSupplier, Consumer<String> writeListener, int batchSize) {
+        this.emfSupplier = emfSupplier;
+        this.writeListener = writeListener;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Adds an item to the pending items and persists them once the batch size is reached.
+     *
+     * @param pItem the item to persist
+     */
+    public void add(JpaPersistentItem pItem) {
+        List<JpaPersistentItem> batch = null;
+        synchronized (this) {
+            if (pending.size() >= batchSize * MAX_PENDING_BATCHES) {
+                logger.warn("Too many pending writes, dropping value of item {}", pItem.getName());
+                return;
+            }
+            pending.add(pItem);
+            if (pending.size() >= batchSize) {
+                batch = take();
+            }
+        }
+        if (batch != null) {
+            persist(batch);
+        }
+    }
+
+    /**
+     * Persists all pending items.
+     */
+    public void flush() {
+        List<JpaPersistentItem> batch;
+        synchronized (this) {
+            batch = take();
+        }
+        for (int i = 0; i < batch.size(); i += batchSize) {
+            persist(batch.subList(i, Math.min(batch.size(), i + batchSize)));
+        }
+    }
+
+    /**
+     * Checks if there are items waiting to be persisted.
+     */
+    public synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    private List<JpaPersistentItem> take() {
+        List<JpaPersistentItem> taken = pending;
+        pending = new ArrayList<>();
+        return taken;
+    }
+
+    private void persist(List<JpaPersistentItem> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        EntityManager em = emfSupplier.get().createEntityManager();
+        try {
+            logger.debug("Persisting {} items...", batch.size());
+            // In RESOURCE_LOCAL calls to EntityManager require a begin/commit
+            em.getTransaction().begin();
+            for (JpaPersistentItem pItem : batch) {
+                em.persist(pItem);
+            }
+            em.getTransaction().commit();
+            logger.debug("Persisting {} items...done", batch.size());
+        } catch (Exception e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            if (batch.size() == 1) {
+                logFailure(batch.get(0), e);
+            } else {
+                logger.debug("Persisting {} items in one transaction failed, persisting them one by one: {}",
+                        batch.size(), e.getMessage());
+                em.close();
+                batch.forEach(this::persistSingle);
+                return;
+            }
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+        batch.forEach(this::notifyWritten);
+    }
+
+    private void notifyWritten(JpaPersistentItem pItem) {
+        writeListener.accept(pItem.getName());
+        if (!pItem.getRealName().equals(pItem.getName())) {
+            writeListener.accept(pItem.getRealName());
+        }
+    }
+
+    private void persistSingle(JpaPersistentItem failedItem) {
+        // the failed transaction may have left state in the entity, e.g. a generated id, so persist a fresh copy
+        JpaPersistentItem pItem = new JpaPersistentItem();
+        pItem.setName(failedItem.getName());
+        pItem.setRealName(failedItem.getRealName());
+        pItem.setTimestamp(Date.from(failedItem.getInstant()));
+        pItem.setValue(failedItem.getValue());
+        EntityManager em = emfSupplier.get().createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persist(pItem);
+            em.getTransaction().commit();
+            notifyWritten(pItem);
+        } catch (Exception e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            logFailure(pItem, e);
+        } finally {
+            em.close();
+        }
+    }
+
+    private void logFailure(JpaPersistentItem pItem, Exception e) {
+        if (e.getCause() instanceof EntityExistsException) {
+            // there's a UNIQUE constraint in the database, and we tried to write
+            // a duplicate timestamp. Just ignore
+            logger.debug("Failed to persist item {} because of duplicate timestamp", pItem.getName());
+        } else {
+            logger.error("Error while persisting item! Rolling back!", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+
+/**
+ * Remembers the last row of recently queried pages, so the following page can be queried by keyset (seek) pagination
+ * on timestamp and id instead of skipping all previous rows with an OFFSET.
+ *
+ * Cursors are kept per item name of the filter and name used in the query, which differs if an alias is used. They
+ * are dropped whenever new rows are written under either of these names, so the pages stay the same as with offset
+ * pagination.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class JpaPageCursors {
+    private static final int MAX_CURSORS = 256;
+
+    /**
+     * The last row of a page.
+     *
+     * @param timestamp the timestamp of the row
+     * @param id the id of the row
+     */
+    public record Cursor(Date timestamp, long id) {
+    }
+
+    private record PageKey(String itemName, String queryName, @Nullable Date beginDate, @Nullable Date endDate,
+            Ordering ordering, int pageSize, int pageNumber) {
+    }
+
+    private final Map<PageKey, Cursor> cursors = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<PageKey, Cursor> eldest) {
+            return size() > MAX_CURSORS;
+        }
+    };
+
+    /**
+     * Gets the last row of the page preceding the requested one.
+     *
+     * @param queryName the name used in the query
+     * @param filter the filter of the requested page
+     * @return the cursor, or null if unknown
+     */
+    public synchronized @Nullable Cursor getPrevious(String queryName, FilterCriteria filter) {
+        if (filter.getPageNumber() == 0) {
+            return null;
+        }
+        return cursors.get(key(queryName, filter, filter.getPageNumber() - 1));
+    }
+
+    /**
+     * Remembers the last row of the requested page.
+     *
+     * @param queryName the name used in the query
+     * @param filter the filter of the requested page
+     * @param cursor the last row of the page
+     */
+    public synchronized void put(String queryName, FilterCriteria filter, Cursor cursor) {
+        cursors.put(key(queryName, filter, filter.getPageNumber()), cursor);
+    }
+
+    /**
+     * Drops the cursors of all queries which may include rows written under a name.
+     *
+     * @param name the item name or alias of the written rows
+     */
+    public synchronized void invalidate(String name) {
+        if (cursors.isEmpty()) {
+            return;
+        }
+        cursors.keySet().removeIf(key -> key.itemName().equals(name) || key.queryName().equals(name));
+    }
+
+    private static PageKey key(String queryName, FilterCriteria filter, int pageNumber) {
+        String itemName = filter.getItemName();
+        return new PageKey(itemName != null ? itemName : queryName, queryName, toDate(filter.getBeginDate()),
+                toDate(filter.getEndDate()), filter.getOrdering(), filter.getPageSize(), pageNumber);
+    }
+
+    private static @Nullable Date toDate(@Nullable ZonedDateTime dateTime) {
+        return dateTime == null ? null : Date.from(dateTime.toInstant());
+    }
+}
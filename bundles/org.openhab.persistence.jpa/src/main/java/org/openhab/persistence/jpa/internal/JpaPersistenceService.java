@@ -12,15 +12,19 @@
  */
 package org.openhab.persistence.jpa.internal;
 
+import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -33,6 +37,7 @@ import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.jpa.internal.JpaPageCursors.Cursor;
 import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
@@ -43,7 +48,6 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
@@ -64,6 +68,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     private static final String SERVICE_ID = "jpa";
     private static final String SERVICE_LABEL = "JPA";
     protected static final String CONFIG_URI = "persistence:jpa";
+    private static final String THREADPOOL_NAME = "jpa";
 
     private final Logger logger = LoggerFactory.getLogger(JpaPersistenceService.class);
 
@@ -75,6 +80,10 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
     private boolean initialized;
 
+    private @Nullable JpaBatchWriter batchWriter;
+    private @Nullable ScheduledFuture<?> flushJob;
+    private final JpaPageCursors pageCursors = new JpaPageCursors();
+
     @Activate
     public JpaPersistenceService(BundleContext context, Map<String, @Nullable Object> properties,
             final @Reference ItemRegistry itemRegistry) {
@@ -82,6 +91,12 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         logger.debug("Activating JPA persistence service");
         try {
             config = new JpaConfiguration(properties);
+            batchWriter = new JpaBatchWriter(this::getEntityManagerFactory, pageCursors::invalidate,
+                    config.batchSize);
+            if (config.batchSize > 1) {
+                flushJob = ThreadPoolManager.getScheduledPool(THREADPOOL_NAME).scheduleWithFixedDelay(this::flush,
+                        config.batchInterval, config.batchInterval, TimeUnit.SECONDS);
+            }
             initialized = true;
         } catch (IllegalArgumentException e) {
             logger.warn("{}", e.getMessage());
@@ -108,6 +123,12 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     @Deactivate
     public void deactivate() {
         logger.debug("Deactivating JPA persistence service");
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        flush();
         closeEntityManagerFactory();
     }
 
@@ -156,30 +177,28 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         pItem.setRealName(item.getName());
         pItem.setTimestamp(new Date());
 
-        EntityManager em = getEntityManagerFactory().createEntityManager();
-        try {
-            logger.debug("Persisting item...");
-            // In RESOURCE_LOCAL calls to EntityManager require a begin/commit
-            em.getTransaction().begin();
-            em.persist(pItem);
-            em.getTransaction().commit();
-            logger.debug("Persisting item...done");
-        } catch (Exception e) {
-            if (e.getCause() instanceof EntityExistsException) {
-                // there's a UNIQUE constraint in the database, and we tried to write
-                // a duplicate timestamp. Just ignore
-                logger.debug("Failed to persist item {} because of duplicate timestamp", name);
-            } else {
-                logger.error("Error while persisting item! Rolling back!", e);
-            }
-            em.getTransaction().rollback();
-        } finally {
-            em.close();
+        JpaBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            batchWriter.add(pItem);
         }
 
         logger.debug("Storing item...done");
     }
 
+    /**
+     * Persists the buffered items, so they are visible to subsequent queries.
+     */
+    private void flush() {
+        JpaBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null && batchWriter.hasPending()) {
+            try {
+                batchWriter.flush();
+            } catch (RuntimeException e) {
+                logger.error("Error while persisting buffered items!", e);
+            }
+        }
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return Set.of();
@@ -210,45 +229,63 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             return List.of();
         }
 
+        flush();
+
         String sortOrder;
+        String cursorOperator;
         if (filter.getOrdering() == Ordering.ASCENDING) {
             sortOrder = "ASC";
+            cursorOperator = ">";
         } else {
             sortOrder = "DESC";
+            cursorOperator = "<";
         }
 
-        boolean hasBeginDate = false;
-        boolean hasEndDate = false;
-        String queryString = "SELECT n FROM " + JpaPersistentItem.class.getSimpleName()
-                + " n WHERE n.realName = :itemName";
+        String whereClause = " WHERE n.realName = :itemName";
         if (filter.getBeginDate() != null) {
-            queryString += " AND n.timestamp >= :beginDate";
-            hasBeginDate = true;
+            whereClause += " AND n.timestamp >= :beginDate";
         }
         if (filter.getEndDate() != null) {
-            queryString += " AND n.timestamp <= :endDate";
-            hasEndDate = true;
+            whereClause += " AND n.timestamp <= :endDate";
         }
-        queryString += " ORDER BY n.timestamp " + sortOrder;
+        // the id makes the order unique, which keyset pagination relies on
+        String orderClause = " ORDER BY n.timestamp " + sortOrder + ", n.id " + sortOrder;
+        boolean keyset = config.keysetPagination && filter.getPageNumber() > 0;
+        String queryString = "SELECT n FROM " + JpaPersistentItem.class.getSimpleName() + " n" + whereClause
+                + (keyset ? " AND (n.timestamp " + cursorOperator + " :cursorTimestamp OR (n.timestamp = "
+                        + ":cursorTimestamp AND n.id " + cursorOperator + " :cursorId))" : "")
+                + orderClause;
 
         logger.debug("The query: {}", queryString);
 
+        String queryName = alias != null ? alias : item.getName();
         EntityManager em = getEntityManagerFactory().createEntityManager();
         try {
             // In RESOURCE_LOCAL calls to EntityManager require a begin/commit
             em.getTransaction().begin();
 
+            Cursor cursor = null;
+            if (keyset) {
+                cursor = pageCursors.getPrevious(queryName, filter);
+                if (cursor == null) {
+                    cursor = seekCursor(em, whereClause + orderClause, queryName, filter);
+                }
+                if (cursor == null) {
+                    // the requested page is behind the last row
+                    em.getTransaction().commit();
+                    return List.of();
+                }
+            }
+
             logger.debug("Creating query...");
             Query query = em.createQuery(queryString);
-            query.setParameter("itemName", alias != null ? alias : item.getName());
-            if (hasBeginDate) {
-                query.setParameter("beginDate", Date.from(filter.getBeginDate().toInstant()));
-            }
-            if (hasEndDate) {
-                query.setParameter("endDate", Date.from(filter.getEndDate().toInstant()));
+            setFilterParameters(query, queryName, filter);
+            if (cursor != null) {
+                query.setParameter("cursorTimestamp", cursor.timestamp());
+                query.setParameter("cursorId", cursor.id());
+            } else {
+                query.setFirstResult(filter.getPageNumber() * filter.getPageSize());
             }
-
-            query.setFirstResult(filter.getPageNumber() * filter.getPageSize());
             query.setMaxResults(filter.getPageSize());
             logger.debug("Creating query...done");
 
@@ -257,6 +294,11 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             List<JpaPersistentItem> result = query.getResultList();
             logger.debug("Retrieving result list...done");
 
+            if (config.keysetPagination && !result.isEmpty() && result.size() == filter.getPageSize()) {
+                JpaPersistentItem last = result.get(result.size() - 1);
+                pageCursors.put(queryName, filter, new Cursor(Date.from(last.getInstant()), last.getId()));
+            }
+
             List<HistoricItem> historicList = JpaHistoricItem.fromResultList(result, item);
             logger.debug("Convert to HistoricItem: {}", historicList.size());
 
@@ -273,6 +315,40 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         return List.of();
     }
 
+    /**
+     * Finds the last row of the page preceding the requested one. Only timestamp and id are selected, so skipping the
+     * rows of the previous pages is cheaper than for the full query.
+     *
+     * @return the cursor, or null if there are not enough rows
+     */
+    private @Nullable Cursor seekCursor(EntityManager em, String whereAndOrderClause, String queryName,
+            FilterCriteria filter) {
+        Query query = em.createQuery("SELECT n.timestamp, n.id FROM " + JpaPersistentItem.class.getSimpleName()
+                + " n" + whereAndOrderClause);
+        setFilterParameters(query, queryName, filter);
+        query.setFirstResult(filter.getPageNumber() * filter.getPageSize() - 1);
+        query.setMaxResults(1);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return new Cursor((Date) row[0], ((Number) row[1]).longValue());
+    }
+
+    private void setFilterParameters(Query query, String queryName, FilterCriteria filter) {
+        query.setParameter("itemName", queryName);
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (beginDate != null) {
+            query.setParameter("beginDate", Date.from(beginDate.toInstant()));
+        }
+        ZonedDateTime endDate = filter.getEndDate();
+        if (endDate != null) {
+            query.setParameter("endDate", Date.from(endDate.toInstant()));
+        }
+    }
+
     /**
      * Creates a new EntityManagerFactory with properties read from openhab.cfg via JpaConfiguration.
      *
@@ -293,6 +369,10 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         if (config.dbUserName.isBlank() && config.dbPassword.isBlank()) {
             logger.info("It is recommended to use a password to protect the JPA persistence data store");
         }
+        if (config.batchSize > 1) {
+            // send the inserts of a batch as one JDBC batch, the database dictionary is still detected automatically
+            properties.put("openjpa.jdbc.DBDictionary", "batchLimit=" + config.batchSize);
+        }
         if (!config.dbSyncMapping.isBlank()) {
             logger.info("You are setting openjpa.jdbc.SynchronizeMappings, I hope you know what you're doing!");
             properties.put("openjpa.jdbc.SynchronizeMappings", config.dbSyncMapping);
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Tests the {@link JpaBatchWriter}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class JpaBatchWriterTest {
+
+    private static final String BAD_VALUE = "bad";
+
+    // values of the items of every committed transaction
+    private final List<List<String>> commits = new ArrayList<>();
+    private final List<String> written = new ArrayList<>();
+    private final EntityManagerFactory emf = mock(EntityManagerFactory.class);
+
+    public JpaBatchWriterTest() {
+        when(emf.createEntityManager()).thenAnswer(invocation -> entityManager());
+    }
+
+    /**
+     * Creates an entity manager which fails to persist items with {@link #BAD_VALUE}.
+     */
+    private EntityManager entityManager() {
+        List<String> persisted = new ArrayList<>();
+        boolean[] active = new boolean[1];
+        EntityTransaction transaction = mock(EntityTransaction.class);
+        doAnswer(invocation -> active[0] = true).when(transaction).begin();
+        doAnswer(invocation -> {
+            active[0] = false;
+            commits.add(List.copyOf(persisted));
+            return null;
+        }).when(transaction).commit();
+        doAnswer(invocation -> active[0] = false).when(transaction).rollback();
+        when(transaction.isActive()).thenAnswer(invocation -> active[0]);
+
+        EntityManager em = mock(EntityManager.class);
+        when(em.getTransaction()).thenReturn(transaction);
+        when(em.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            JpaPersistentItem pItem = invocation.getArgument(0);
+            if (BAD_VALUE.equals(pItem.getValue())) {
+                throw new PersistenceException("test");
+            }
+            persisted.add(pItem.getValue());
+            return null;
+        }).when(em).persist(any());
+        return em;
+    }
+
+    private JpaPersistentItem item(String value) {
+        JpaPersistentItem pItem = new JpaPersistentItem();
+        pItem.setName("Alias");
+        pItem.setRealName("Item");
+        pItem.setTimestamp(new Date());
+        pItem.setValue(value);
+        return pItem;
+    }
+
+    @Test
+    void itemsAreCommittedInBatches() {
+        JpaBatchWriter writer = new JpaBatchWriter(() -> emf, written::add, 2);
+        for (int i = 0; i < 5; i++) {
+            writer.add(item(String.valueOf(i)));
+        }
+
+        assertThat(commits, is(List.of(List.of("0", "1"), List.of("2", "3"))));
+        assertThat(writer.hasPending(), is(true));
+
+        writer.flush();
+        assertThat(commits, is(List.of(List.of("0", "1"), List.of("2", "3"), List.of("4"))));
+        assertThat(writer.hasPending(), is(false));
+        // both names are reported, so the page cursors of queries by name and alias are dropped
+        assertThat(written, hasSize(10));
+        assertThat(written, everyItem(in(List.of("Alias", "Item"))));
+    }
+
+    @Test
+    void flushCommitsRemainingItemsInBatches() {
+        JpaBatchWriter writer = new JpaBatchWriter(() -> emf, written::add, 3);
+        writer.add(item("0"));
+        writer.add(item("1"));
+        assertThat(commits, is(empty()));
+
+        writer.flush();
+        assertThat(commits, is(List.of(List.of("0", "1"))));
+    }
+
+    @Test
+    void failedBatchIsPersistedOneByOne() {
+        JpaBatchWriter writer = new JpaBatchWriter(() -> emf, written::add, 3);
+        writer.add(item("0"));
+        writer.add(item(BAD_VALUE));
+        writer.add(item("2"));
+
+        assertThat(commits, is(List.of(List.of("0"), List.of("2"))));
+        assertThat(written, hasSize(4));
+    }
+}
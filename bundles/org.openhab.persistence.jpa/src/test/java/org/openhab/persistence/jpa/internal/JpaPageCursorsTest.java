@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Date;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.persistence.jpa.internal.JpaPageCursors.Cursor;
+
+/**
+ * Tests the {@link JpaPageCursors}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class JpaPageCursorsTest {
+
+    private final JpaPageCursors cursors = new JpaPageCursors();
+    private final Cursor cursor = new Cursor(new Date(1000), 42);
+
+    private FilterCriteria filter(int pageNumber) {
+        return new FilterCriteria().setItemName("Item").setOrdering(Ordering.ASCENDING).setPageSize(10)
+                .setPageNumber(pageNumber);
+    }
+
+    @Test
+    void nextPageIsQueriedFromCursorOfPreviousPage() {
+        cursors.put("Item", filter(0), cursor);
+
+        assertThat(cursors.getPrevious("Item", filter(0)), is(nullValue()));
+        assertThat(cursors.getPrevious("Item", filter(1)), is(cursor));
+        // pages of other queries fall back to offset pagination
+        assertThat(cursors.getPrevious("Item", filter(2)), is(nullValue()));
+        assertThat(cursors.getPrevious("Item", filter(1).setPageSize(20)), is(nullValue()));
+        assertThat(cursors.getPrevious("Item", filter(1).setOrdering(Ordering.DESCENDING)), is(nullValue()));
+        assertThat(cursors.getPrevious("Alias", filter(1)), is(nullValue()));
+    }
+
+    @Test
+    void writeDropsCursorsOfItem() {
+        cursors.put("Item", filter(0), cursor);
+        cursors.invalidate("Other");
+        assertThat(cursors.getPrevious("Item", filter(1)), is(cursor));
+
+        cursors.invalidate("Item");
+        assertThat(cursors.getPrevious("Item", filter(1)), is(nullValue()));
+    }
+
+    @Test
+    void writeDropsCursorsOfAliasQueries() {
+        cursors.put("Alias", filter(0), cursor);
+        cursors.invalidate("Item");
+        assertThat(cursors.getPrevious("Alias", filter(1)), is(nullValue()));
+
+        cursors.put("Alias", filter(0), cursor);
+        cursors.invalidate("Alias");
+        assertThat(cursors.getPrevious("Alias", filter(1)), is(nullValue()));
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Binary serialization of {@link MapDbItem}s.
+ *
+ * An item is written as format version, name, timestamp and last change in epoch milliseconds, followed by the state
+ * and the optional last state. Each state starts with a type tag. The common state types are stored in a compact
+ * form, all other types are stored as class name and string representation, like the former JSON format did.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public final class MapDbItemCodec {
+    private static final byte FORMAT_VERSION = 1;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final byte TYPE_NONE = 0;
+    private static final byte TYPE_GENERIC = 1;
+    private static final byte TYPE_NULL = 2;
+    private static final byte TYPE_UNDEF = 3;
+    private static final byte TYPE_ON = 4;
+    private static final byte TYPE_OFF = 5;
+    private static final byte TYPE_OPEN = 6;
+    private static final byte TYPE_CLOSED = 7;
+    private static final byte TYPE_DECIMAL = 8;
+    private static final byte TYPE_PERCENT = 9;
+    private static final byte TYPE_QUANTITY = 10;
+    private static final byte TYPE_STRING = 11;
+    private static final byte TYPE_HSB = 12;
+
+    private MapDbItemCodec() {
+        // prevent instantiation
+    }
+
+    static byte[] encode(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(FORMAT_VERSION);
+        out.writeUTF(item.getName());
+        out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+        ZonedDateTime lastStateChange = item.getLastStateChange();
+        out.writeLong(lastStateChange != null ? lastStateChange.toInstant().toEpochMilli() : NO_TIMESTAMP);
+        writeState(out, item.getState());
+        writeState(out, item.getLastState());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static MapDbItem decode(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+        MapDbItem item = new MapDbItem();
+        item.setName(in.readUTF());
+        item.setTimestamp(new Date(in.readLong()));
+        long lastStateChange = in.readLong();
+        item.setLastStateChange(lastStateChange != NO_TIMESTAMP ? new Date(lastStateChange) : null);
+        State state = readState(in);
+        if (state == null) {
+            throw new IOException("State is missing");
+        }
+        item.setState(state);
+        item.setLastState(readState(in));
+        return item;
+    }
+
+    /**
+     * Serializes a single state.
+     *
+     * @param state the state, may be null
+     * @return the serialized state
+     */
+    public static byte[] encodeState(@Nullable State state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeState(out, state);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes a single state written by {@link #encodeState(State)}.
+     *
+     * @param data the serialized state
+     * @return the state, may be null
+     */
+    public static @Nullable State decodeState(byte[] data) throws IOException {
+        return readState(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    private static void writeState(DataOutputStream out, @Nullable State state) throws IOException {
+        if (state == null) {
+            out.writeByte(TYPE_NONE);
+        } else if (state == UnDefType.NULL) {
+            out.writeByte(TYPE_NULL);
+        } else if (state == UnDefType.UNDEF) {
+            out.writeByte(TYPE_UNDEF);
+        } else if (state instanceof OnOffType onOff) {
+            out.writeByte(onOff == OnOffType.ON ? TYPE_ON : TYPE_OFF);
+        } else if (state instanceof OpenClosedType openClosed) {
+            out.writeByte(openClosed == OpenClosedType.OPEN ? TYPE_OPEN : TYPE_CLOSED);
+        } else if (state instanceof HSBType hsb) {
+            // checked before PercentType and DecimalType, which it extends
+            out.writeByte(TYPE_HSB);
+            writeDecimal(out, hsb.getHue().toBigDecimal());
+            writeDecimal(out, hsb.getSaturation().toBigDecimal());
+            writeDecimal(out, hsb.getBrightness().toBigDecimal());
+        } else if (state.getClass() == PercentType.class) {
+            out.writeByte(TYPE_PERCENT);
+            writeDecimal(out, ((PercentType) state).toBigDecimal());
+        } else if (state.getClass() == DecimalType.class) {
+            out.writeByte(TYPE_DECIMAL);
+            writeDecimal(out, ((DecimalType) state).toBigDecimal());
+        } else if (state instanceof QuantityType<?> quantity) {
+            out.writeByte(TYPE_QUANTITY);
+            writeString(out, quantity.toFullString());
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, state.toFullString());
+        } else {
+            out.writeByte(TYPE_GENERIC);
+            out.writeUTF(state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    private static @Nullable State readState(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_NONE -> null;
+            case TYPE_NULL -> UnDefType.NULL;
+            case TYPE_UNDEF -> UnDefType.UNDEF;
+            case TYPE_ON -> OnOffType.ON;
+            case TYPE_OFF -> OnOffType.OFF;
+            case TYPE_OPEN -> OpenClosedType.OPEN;
+            case TYPE_CLOSED -> OpenClosedType.CLOSED;
+            case TYPE_HSB -> new HSBType(new DecimalType(readDecimal(in)), new PercentType(readDecimal(in)),
+                    new PercentType(readDecimal(in)));
+            case TYPE_PERCENT -> new PercentType(readDecimal(in));
+            case TYPE_DECIMAL -> new DecimalType(readDecimal(in));
+            case TYPE_QUANTITY -> QuantityType.valueOf(readString(in));
+            case TYPE_STRING -> new StringType(readString(in));
+            case TYPE_GENERIC -> readGenericState(in);
+            default -> throw new IOException("Unknown state type " + type);
+        };
+    }
+
+    private static State readGenericState(DataInputStream in) throws IOException {
+        String typeName = in.readUTF();
+        String value = readString(in);
+        try {
+            @SuppressWarnings("unchecked")
+            Class<? extends State> stateType = (Class<? extends State>) Class.forName(typeName);
+            State state = TypeParser.parseState(List.of(stateType), value);
+            if (state == null) {
+                throw new IOException("Cannot parse '" + value + "' as " + typeName);
+            }
+            return state;
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Unknown state type " + typeName, e);
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        BigInteger unscaled = value.unscaledValue();
+        out.writeInt(value.scale());
+        if (unscaled.bitLength() < 64) {
+            out.writeShort(0);
+            out.writeLong(unscaled.longValue());
+        } else {
+            byte[] bytes = unscaled.toByteArray();
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        int length = in.readUnsignedShort();
+        if (length == 0) {
+            return BigDecimal.valueOf(in.readLong(), scale);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+
+    // strings may exceed the 64 KiB limit of writeUTF, e.g. for images
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.mapdb.internal.MapDbItemCodec;
+
+/**
+ * Tests the {@link MapDbItemCodec}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemCodecTest {
+
+    @ParameterizedTest
+    @MethodSource
+    public void encodeDecodeRoundtripShouldRecreateTheState(State state) throws IOException {
+        State actual = MapDbItemCodec.decodeState(MapDbItemCodec.encodeState(state));
+        assertThat(actual, is(equalTo(state)));
+    }
+
+    public static Stream<State> encodeDecodeRoundtripShouldRecreateTheState() {
+        return Stream.of(UnDefType.NULL, UnDefType.UNDEF, OnOffType.ON, OnOffType.OFF, OpenClosedType.OPEN,
+                OpenClosedType.CLOSED, DecimalType.ZERO, new DecimalType(1.123), new DecimalType(-10000000),
+                new DecimalType(new BigDecimal("123456789012345678901234567890.123")), PercentType.HUNDRED,
+                PercentType.valueOf("99.999"), HSBType.fromRGB(11, 22, 33),
+                new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS), QuantityType.valueOf("1 kW"),
+                StringType.valueOf(""), StringType.valueOf("a b c 1 2 3"), new DateTimeType("2025-01-02T03:04:05Z"));
+    }
+}
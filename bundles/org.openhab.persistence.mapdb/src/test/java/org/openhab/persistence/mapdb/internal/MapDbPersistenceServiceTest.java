@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapdb.DB;
+import org.mapdb.DBMaker;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PlayPauseType;
+import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.persistence.PersistedItem;
+import org.openhab.core.types.State;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests the migration of items stored as JSON by the {@link MapDbPersistenceService}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbPersistenceServiceTest {
+
+    private static final List<State> STATES = List.of(OnOffType.ON, OpenClosedType.CLOSED, new DecimalType(1.123),
+            new DecimalType(new BigDecimal("123456789012345678901234567890.123")), PercentType.valueOf("99.999"),
+            HSBType.fromRGB(11, 22, 33), new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+            StringType.valueOf("a b c 1 2 3"), new DateTimeType("2025-01-02T03:04:05Z"), new PointType("1.5,2.5"),
+            UpDownType.UP, PlayPauseType.PAUSE);
+
+    private static final Date TIMESTAMP = new Date(1735787045000L);
+    private static final Date LAST_STATE_CHANGE = new Date(1735700645000L);
+
+    static @TempDir @NonNullByDefault({}) Path userData;
+
+    private final Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
+            .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+
+    @BeforeAll
+    public static void setUserData() {
+        // the database folder is resolved when the persistence service class is loaded
+        System.setProperty("openhab.userdata", userData.toString());
+    }
+
+    private File dbFile() {
+        return userData.resolve("persistence").resolve("mapdb").resolve("storage.mapdb").toFile();
+    }
+
+    private MapDbItem item(int i) {
+        MapDbItem item = new MapDbItem();
+        item.setName("Item" + i);
+        item.setState(STATES.get(i));
+        item.setTimestamp(TIMESTAMP);
+        // every other item has no previous state
+        if (i % 2 == 1) {
+            item.setLastState(STATES.get(i - 1));
+            item.setLastStateChange(LAST_STATE_CHANGE);
+        }
+        return item;
+    }
+
+    @Test
+    public void jsonItemsAreMigratedToBinaryFormat() throws Exception {
+        Files.createDirectories(dbFile().toPath().getParent());
+        DB db = DBMaker.newFileDB(dbFile()).make();
+        Map<String, String> jsonMap = db.createTreeMap("itemStore").makeOrGet();
+        for (int i = 0; i < STATES.size(); i++) {
+            jsonMap.put("Item" + i, mapper.toJson(item(i)));
+        }
+        db.commit();
+        db.close();
+
+        MapDbPersistenceService service = new MapDbPersistenceService();
+        service.activate();
+        try {
+            for (int i = 0; i < STATES.size(); i++) {
+                MapDbItem expected = item(i);
+                PersistedItem actual = service.persistedItem(expected.getName(), null);
+                assertThat(actual, is(notNullValue()));
+                assertThat(actual.getState(), is(equalTo(expected.getState())));
+                assertThat(actual.getTimestamp(), is(equalTo(expected.getTimestamp())));
+                assertThat(actual.getLastState(), is(equalTo(expected.getLastState())));
+                assertThat(actual.getLastStateChange(), is(equalTo(expected.getLastStateChange())));
+            }
+            assertThat(service.getItemInfo().size(), is(STATES.size()));
+        } finally {
+            service.deactivate();
+        }
+
+        db = DBMaker.newFileDB(dbFile()).make();
+        try {
+            assertThat(db.exists("itemStore"), is(false));
+        } finally {
+            db.close();
+        }
+    }
+}
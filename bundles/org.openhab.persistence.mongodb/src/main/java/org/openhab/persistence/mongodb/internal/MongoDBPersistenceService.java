@@ -16,15 +16,23 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.bson.BsonMaximumSizeExceededException;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -50,10 +58,22 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.TimeSeriesGranularity;
+import com.mongodb.client.model.TimeSeriesOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 
 /**
@@ -69,12 +89,28 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    private static final String THREADPOOL_NAME = "mongodb";
+    private static final int DEFAULT_BULK_WRITE_INTERVAL = 5; // in s
+    // the number of batches kept while the database is not reachable
+    private static final int MAX_PENDING_BATCHES = 10;
+    private static final Bson QUERY_PROJECTION = Projections.fields(
+            Projections.include(MongoDBFields.FIELD_REALNAME, MongoDBFields.FIELD_TIMESTAMP,
+                    MongoDBFields.FIELD_VALUE, MongoDBFields.FIELD_UNIT),
+            Projections.excludeId());
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
     private String db = "";
     private String collection = "";
     private boolean collectionPerItem;
+    private int bulkWriteSize;
+    private int bulkWriteInterval = DEFAULT_BULK_WRITE_INTERVAL;
+    private boolean timeSeries;
+
+    private final Map<String, List<WriteModel<Document>>> pendingWrites = new HashMap<>();
+    private final Set<String> initializedCollections = ConcurrentHashMap.newKeySet();
+    private @Nullable ScheduledFuture<?> flushJob;
 
     private boolean initialized = false;
 
@@ -113,16 +149,34 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        bulkWriteSize = ConfigParser.valueAsOrElse(config.get("bulkWriteSize"), Integer.class, 0);
+        bulkWriteInterval = Math.max(1, ConfigParser.valueAsOrElse(config.get("bulkWriteInterval"), Integer.class,
+                DEFAULT_BULK_WRITE_INTERVAL));
+        timeSeries = ConfigParser.valueAsOrElse(config.get("timeSeries"), Boolean.class, false);
+        logger.debug("MongoDB bulk write size {}, interval {}s, time series collections {}", bulkWriteSize,
+                bulkWriteInterval, timeSeries);
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
 
+        if (isBulkWriteEnabled()) {
+            flushJob = ThreadPoolManager.getScheduledPool(THREADPOOL_NAME).scheduleWithFixedDelay(this::flushAll,
+                    bulkWriteInterval, bulkWriteInterval, TimeUnit.SECONDS);
+        }
+
         initialized = true;
     }
 
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        flushAll();
         disconnectFromDatabase();
     }
 
@@ -220,19 +274,44 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
                 return null;
             }
 
-            MongoCollection<Document> mongoCollection = db.getDatabase(this.db).getCollection(collectionName);
-
-            Document idx = new Document();
-            idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
-            mongoCollection.createIndex(idx);
+            MongoDatabase database = db.getDatabase(this.db);
+            if (!initializedCollections.contains(collectionName)) {
+                initializeCollection(database, collectionName);
+            }
 
-            return mongoCollection;
+            return database.getCollection(collectionName);
         } catch (Exception e) {
             logger.error("Failed to connect to collection {}: {}", collectionName, e.getMessage(), e);
             return null;
         }
     }
 
+    /**
+     * Creates the collection as time series collection if configured and the compound index on item and timestamp.
+     * This is done once per collection.
+     */
+    private void initializeCollection(MongoDatabase database, String collectionName) {
+        synchronized (initializedCollections) {
+            if (initializedCollections.contains(collectionName)) {
+                return;
+            }
+
+            if (timeSeries && database.listCollections().filter(Filters.eq("name", collectionName)).first() == null) {
+                database.createCollection(collectionName,
+                        new CreateCollectionOptions().timeSeriesOptions(
+                                new TimeSeriesOptions(MongoDBFields.FIELD_TIMESTAMP).metaField(MongoDBFields.FIELD_ITEM)
+                                        .granularity(TimeSeriesGranularity.SECONDS)));
+                logger.debug("Created time series collection {}", collectionName);
+            }
+
+            Document idx = new Document();
+            idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
+            database.getCollection(collectionName).createIndex(idx);
+
+            initializedCollections.add(collectionName);
+        }
+    }
+
     /**
      * Disconnects from the database
      */
@@ -243,6 +322,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
 
         cl = null;
+        initializedCollections.clear();
     }
 
     @Override
@@ -285,7 +365,8 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
         MongoCursor<Document> cursor = null;
         try {
-            cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
+            cursor = collection.find(query).projection(QUERY_PROJECTION)
+                    .sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
                     .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize()).iterator();
 
             while (cursor.hasNext()) {
@@ -351,6 +432,28 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String name = (alias != null) ? alias : realItemName;
+        String collectionName = getCollectionName(name);
+
+        Object value = MongoDBTypeConversions.convertValue(state);
+
+        Document obj = new Document();
+        obj.put(MongoDBFields.FIELD_ID, new ObjectId());
+        obj.put(MongoDBFields.FIELD_ITEM, name);
+        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
+        obj.put(MongoDBFields.FIELD_VALUE, value);
+        if (item instanceof NumberItem && state instanceof QuantityType<?>) {
+            obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
+        }
+
+        if (isBulkWriteEnabled()) {
+            queueWrite(collectionName, obj);
+            logger.debug("MongoDB queued {}={}", name, value);
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -360,10 +463,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String name = (alias != null) ? alias : realItemName;
-        String collectionName = collectionPerItem ? name : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -372,26 +471,117 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        Object value = MongoDBTypeConversions.convertValue(state);
-
-        Document obj = new Document();
-        obj.put(MongoDBFields.FIELD_ID, new ObjectId());
-        obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
-        obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
-        obj.put(MongoDBFields.FIELD_VALUE, value);
-        if (item instanceof NumberItem && state instanceof QuantityType<?>) {
-            obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
-        }
         try {
             collection.insertOne(obj);
-        } catch (org.bson.BsonMaximumSizeExceededException e) {
+        } catch (BsonMaximumSizeExceededException e) {
             logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
             throw e;
         }
         logger.debug("MongoDB save {}={}", name, value);
     }
 
+    private boolean isBulkWriteEnabled() {
+        return bulkWriteSize > 1;
+    }
+
+    private String getCollectionName(String itemName) {
+        return collectionPerItem ? itemName : this.collection;
+    }
+
+    /**
+     * Adds a document to the pending writes of a collection and writes them once the bulk write size is reached.
+     */
+    private void queueWrite(String collectionName, Document obj) {
+        List<WriteModel<Document>> batch = null;
+        synchronized (pendingWrites) {
+            List<WriteModel<Document>> writes = pendingWrites.computeIfAbsent(collectionName, k -> new ArrayList<>());
+            if (writes.size() >= bulkWriteSize * MAX_PENDING_BATCHES) {
+                logger.warn("Too many pending writes for collection {}, dropping document for item {}",
+                        collectionName, obj.get(MongoDBFields.FIELD_ITEM));
+                return;
+            }
+            writes.add(new InsertOneModel<>(obj));
+            if (writes.size() >= bulkWriteSize) {
+                batch = pendingWrites.remove(collectionName);
+            }
+        }
+        if (batch != null) {
+            writeBatch(collectionName, batch);
+        }
+    }
+
+    /**
+     * Writes the pending documents of a collection, so they are visible to subsequent queries.
+     */
+    private void flush(String collectionName) {
+        List<WriteModel<Document>> batch;
+        synchronized (pendingWrites) {
+            batch = pendingWrites.remove(collectionName);
+        }
+        if (batch != null) {
+            writeBatch(collectionName, batch);
+        }
+    }
+
+    private void flushAll() {
+        List<String> collectionNames;
+        synchronized (pendingWrites) {
+            collectionNames = new ArrayList<>(pendingWrites.keySet());
+        }
+        collectionNames.forEach(this::flush);
+    }
+
+    private void writeBatch(String collectionName, List<WriteModel<Document>> batch) {
+        if (!tryConnectToDatabase()) {
+            logger.warn("mongodb: No connection to database. Will retry writing {} documents to {} later.",
+                    batch.size(), collectionName);
+            requeue(collectionName, batch);
+            return;
+        }
+        MongoCollection<Document> collection = connectToCollection(collectionName);
+        if (collection == null) {
+            // Logging is done in connectToCollection()
+            requeue(collectionName, batch);
+            return;
+        }
+
+        try {
+            // unordered, so a failing document does not prevent the others from being written
+            BulkWriteResult result = collection.bulkWrite(batch, new BulkWriteOptions().ordered(false));
+            logger.debug("MongoDB saved {} documents to {}", result.getInsertedCount(), collectionName);
+        } catch (MongoBulkWriteException e) {
+            logger.warn("Failed to write {} of {} documents to {}: {}", e.getWriteErrors().size(), batch.size(),
+                    collectionName, e.getMessage());
+        } catch (BsonMaximumSizeExceededException e) {
+            // write the documents one by one to only skip the oversized ones
+            for (WriteModel<Document> write : batch) {
+                Document obj = ((InsertOneModel<Document>) write).getDocument();
+                try {
+                    collection.insertOne(obj);
+                } catch (BsonMaximumSizeExceededException e1) {
+                    logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.",
+                            obj.get(MongoDBFields.FIELD_ITEM));
+                }
+            }
+        } catch (MongoException e) {
+            logger.warn("Failed to write {} documents to {}, will retry later: {}", batch.size(), collectionName,
+                    e.getMessage());
+            requeue(collectionName, batch);
+        }
+    }
+
+    private void requeue(String collectionName, List<WriteModel<Document>> batch) {
+        synchronized (pendingWrites) {
+            List<WriteModel<Document>> writes = pendingWrites.computeIfAbsent(collectionName, k -> new ArrayList<>());
+            if (writes.size() + batch.size() > bulkWriteSize * MAX_PENDING_BATCHES) {
+                logger.warn("Too many pending writes for collection {}, dropping {} documents", collectionName,
+                        batch.size());
+                return;
+            }
+            writes.addAll(0, batch);
+        }
+    }
+
     @Nullable
     public MongoCollection<Document> prepareCollection(FilterCriteria filter) {
         if (!initialized || !tryConnectToDatabase()) {
@@ -411,7 +601,8 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     @Nullable
     private MongoCollection<Document> getCollection(String realItemName) {
-        String collectionName = collectionPerItem ? realItemName : this.collection;
+        String collectionName = getCollectionName(realItemName);
+        flush(collectionName);
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -257,6 +257,45 @@ public class MongoDBPersistenceServiceTest {
         }
     }
 
+    /**
+     * Tests the store method of MongoDBPersistenceService with bulk writes enabled.
+     *
+     * This test checks if documents are kept until the bulk write size is reached or the service is deactivated.
+     * It uses different database backends provided by the provideDatabaseBackends method.
+     *
+     * @param dbContainer The container running the MongoDB instance.
+     */
+    @ParameterizedTest
+    @MethodSource("org.openhab.persistence.mongodb.internal.DataCreationHelper#provideDatabaseBackends")
+    public void testStoreBulkWrite(DatabaseTestContainer dbContainer) {
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+
+            setupResult.config.put("bulkWriteSize", 3);
+            setupResult.config.put("bulkWriteInterval", 3600);
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            MongoCollection<Document> collection = database.getCollection("testCollection");
+
+            // Execution and verification
+            service.store(DataCreationHelper.createStringItem("TestItem1", "TestValue1"), null);
+            service.store(DataCreationHelper.createStringItem("TestItem2", "TestValue2"), null);
+            assertEquals(0, collection.countDocuments()); // Assert that the documents are pending
+
+            service.store(DataCreationHelper.createStringItem("TestItem3", "TestValue3"), null);
+            assertEquals(3, collection.countDocuments()); // Assert that the bulk write size triggered the write
+
+            service.store(DataCreationHelper.createStringItem("TestItem4", "TestValue4"), null);
+            service.deactivate(1);
+            assertEquals(4, collection.countDocuments()); // Assert that deactivation wrote the pending document
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
     /**
      * Tests the store method of MongoDBPersistenceService with multiple items in a single collection.
      *
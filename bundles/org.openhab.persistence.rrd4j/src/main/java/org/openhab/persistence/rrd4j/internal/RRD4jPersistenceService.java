@@ -25,15 +25,15 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -108,15 +108,6 @@ import org.slf4j.LoggerFactory;
                 + "=org.openhab.rrd4j")
 public class RRD4jPersistenceService implements QueryablePersistenceService {
 
-    private record Key(long timestamp, String name) implements Comparable<Key> {
-        @Override
-        public int compareTo(Key other) {
-            int c = Long.compare(timestamp, other.timestamp);
-
-            return (c == 0) ? Objects.compare(name, other.name, String::compareTo) : c;
-        }
-    }
-
     public static final String SERVICE_ID = "rrd4j";
 
     private static final String DEFAULT_OTHER = "default_other";
@@ -131,7 +122,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
-    private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
+    private final RRD4jWriteQueue writeQueue = new RRD4jWriteQueue(this::writePointsToDatabase);
 
     private static final String DATASOURCE_STATE = "state";
 
@@ -333,7 +324,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
 
         long now = System.currentTimeMillis() / 1000;
-        Double oldValue = storageMap.put(new Key(now, name), value);
+        Double oldValue = writeQueue.offer(name, now, value);
         if (oldValue != null && !oldValue.equals(value)) {
             logger.debug(
                     "Discarding value {} for item {} with timestamp {} because a new value ({}) arrived with the same timestamp.",
@@ -342,21 +333,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     }
 
     private void doStore(boolean force) {
-        long now = System.currentTimeMillis() / 1000;
-        while (!storageMap.isEmpty()) {
-            Key key = storageMap.firstKey();
-            if (now > key.timestamp || force) {
-                // no new elements can be added for this timestamp because we are already past that time or the service
-                // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
-            } else {
-                return;
-            }
-        }
+        writeQueue.flush(System.currentTimeMillis() / 1000, force);
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    /**
+     * Writes the pending values of one database in the order of their timestamps.
+     */
+    private void writePointsToDatabase(String name, NavigableMap<Long, Double> values) {
         RrdDb db = null;
         try {
             db = getDB(name, true);
@@ -367,6 +350,20 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             return;
         }
 
+        try {
+            for (Map.Entry<Long, Double> entry : values.entrySet()) {
+                writePointToDatabase(db, name, entry.getValue(), entry.getKey());
+            }
+        } finally {
+            try {
+                db.close();
+            } catch (IOException e) {
+                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void writePointToDatabase(RrdDb db, String name, double value, long timestamp) {
         ConsolFun function = getConsolidationFunction(db);
         if (function != ConsolFun.AVERAGE) {
             try {
@@ -401,11 +398,6 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
     }
 
     @Override
@@ -700,9 +692,14 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
+        // opening existing files is thread-safe through the pool, only creating a file must not happen concurrently
+        Lock lock = writeQueue.getLock(alias);
+        if (createFileIfAbsent) {
+            lock.lock();
+        }
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(DATABASE_POOL);
@@ -731,6 +728,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (RejectedExecutionException e) {
             // this happens if the system is shut down
             logger.debug("Could not create rrd4j database file '{}': {}", path, e.getMessage());
+        } finally {
+            if (createFileIfAbsent) {
+                lock.unlock();
+            }
         }
         return db;
     }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Collects the values to store per database file until they are written by {@link #flush(long, boolean)}.
+ *
+ * Values are written once the second they were stored in has passed. All due values of the same database are
+ * written in order with the file opened only once. Every value is passed on, RRD4j consolidates all samples within
+ * a step itself. Writes are guarded by striped locks instead of a global one, so writing one file does not block
+ * access to other files.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jWriteQueue {
+
+    /**
+     * Writes the pending values of one database file.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        /**
+         * @param name the name of the database
+         * @param values the values to write, by timestamp in seconds
+         */
+        void write(String name, NavigableMap<Long, Double> values);
+    }
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<String, PendingValues> pending = new ConcurrentHashMap<>();
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+    private final Writer writer;
+
+    public RRD4jWriteQueue(Writer writer) {
+        this.writer = writer;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Adds a value to write.
+     *
+     * @param name the name of the database
+     * @param timestamp the timestamp in seconds
+     * @param value the value
+     * @return the value previously queued for the same timestamp, if any
+     */
+    public @Nullable Double offer(String name, long timestamp, double value) {
+        return pending.computeIfAbsent(name, n -> new PendingValues()).put(timestamp, value);
+    }
+
+    /**
+     * Writes all values of past seconds.
+     *
+     * @param now the current time in seconds
+     * @param force write all values regardless of their timestamp
+     */
+    public void flush(long now, boolean force) {
+        for (Map.Entry<String, PendingValues> entry : pending.entrySet()) {
+            String name = entry.getKey();
+            PendingValues values = entry.getValue();
+            Lock lock = getLock(name);
+            lock.lock();
+            try {
+                NavigableMap<Long, Double> due = values.takeDue(now, force);
+                if (!due.isEmpty()) {
+                    writer.write(name, due);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Get the lock guarding modifications of the given database file.
+     */
+    public Lock getLock(String name) {
+        return locks[Math.floorMod(name.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Get the number of values waiting to be written.
+     */
+    public int size() {
+        return pending.values().stream().mapToInt(PendingValues::size).sum();
+    }
+
+    private static class PendingValues {
+        private final TreeMap<Long, Double> values = new TreeMap<>();
+
+        synchronized @Nullable Double put(long timestamp, double value) {
+            return values.put(timestamp, value);
+        }
+
+        synchronized NavigableMap<Long, Double> takeDue(long now, boolean force) {
+            NavigableMap<Long, Double> due;
+            if (force) {
+                due = new TreeMap<>(values);
+                values.clear();
+                return due;
+            }
+            // values of the current second may still be replaced by newer ones
+            NavigableMap<Long, Double> head = values.headMap(now, false);
+            due = new TreeMap<>(head);
+            head.clear();
+            return due;
+        }
+
+        synchronized int size() {
+            return values.size();
+        }
+    }
+}
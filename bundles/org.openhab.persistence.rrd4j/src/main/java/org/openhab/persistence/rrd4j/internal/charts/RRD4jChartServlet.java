@@ -17,12 +17,21 @@ import static java.util.Map.entry;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 import javax.imageio.ImageIO;
 import javax.servlet.Servlet;
@@ -33,6 +42,7 @@ import javax.servlet.ServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
@@ -50,6 +60,8 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.http.HttpService;
 import org.osgi.service.http.NamespaceException;
 import org.rrd4j.ConsolFun;
+import org.rrd4j.core.FetchData;
+import org.rrd4j.core.FetchRequest;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.graph.RrdGraph;
@@ -69,6 +81,11 @@ import org.slf4j.LoggerFactory;
  * <li>groups: A comma separated list of group names, whose members should be displayed
  * </ul>
  *
+ * Rendered charts are cached as PNG until the next step of the displayed archives begins, as the chart cannot change
+ * before. Charts of time ranges which were complete when they were rendered do not change at all. Charts of a period
+ * requested from this servlet are shared by all requests within that step, although their time range moves by a few
+ * seconds.
+ *
  * @author Kai Kreuzer - Initial contribution
  * @author Chris Jackson - a few improvements
  * @author Jan N. Klug - a few improvements
@@ -105,15 +122,65 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             entry("Y", Duration.ofDays(365))//
     );
 
+    private static final int MAX_CACHED_CHARTS = 16;
+    private static final int MAX_CACHE_SIZE = 2 * 1024 * 1024; // in bytes
+    private static final String FETCH_THREADPOOL_NAME = "RRD4j-charts";
+
+    /**
+     * All inputs of a rendered chart. Charts of a period ending now have no fixed start and end, they are keyed by
+     * the period instead and reused until the next step begins.
+     */
+    private record ChartKey(List<SeriesKey> series, long start, long end, @Nullable Duration period, int height,
+            int width, @Nullable Integer dpi, @Nullable String theme, @Nullable String interpolation,
+            @Nullable Boolean legend) {
+    }
+
+    private record SeriesKey(String itemName, String itemType, @Nullable String alias, @Nullable String label) {
+    }
+
+    /**
+     * @param png the encoded chart
+     * @param validUntil the time in seconds until which the chart cannot change
+     */
+    private record CachedChart(byte[] png, long validUntil) {
+    }
+
+    private record Series(Item item, @Nullable String alias, int counter) {
+        SeriesKey key(ItemUIRegistry itemUIRegistry) {
+            return new SeriesKey(item.getName(), item.getType(), alias, itemUIRegistry.getLabel(item.getName()));
+        }
+    }
+
+    /**
+     * @param data the fetched data, or null if the graph should read the file itself
+     * @param step the step of the archive the data was fetched from, or 0 if unknown
+     */
+    private record SeriesData(ConsolFun consolFun, @Nullable FetchData data, long step) {
+    }
+
+    // in access order, so the least recently used chart is evicted first
+    private final Map<ChartKey, CachedChart> chartCache = new LinkedHashMap<>(16, 0.75f, true);
+    private int chartCacheSize;
+
+    private final ExecutorService fetchExecutor = ThreadPoolManager.getPool(FETCH_THREADPOOL_NAME);
+
     private final HttpService httpService;
     private final ItemUIRegistry itemUIRegistry;
     private final TimeZoneProvider timeZoneProvider;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
+    private final Clock clock;
 
     @Activate
     public RRD4jChartServlet(final @Reference HttpService httpService, final @Reference ItemUIRegistry itemUIRegistry,
             final @Reference TimeZoneProvider timeZoneProvider,
             final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry) {
+        this(httpService, itemUIRegistry, timeZoneProvider, persistenceServiceConfigurationRegistry,
+                Clock.systemUTC());
+    }
+
+    RRD4jChartServlet(HttpService httpService, ItemUIRegistry itemUIRegistry, TimeZoneProvider timeZoneProvider,
+            PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry, Clock clock) {
+        this.clock = clock;
         this.httpService = httpService;
         this.itemUIRegistry = itemUIRegistry;
         this.timeZoneProvider = timeZoneProvider;
@@ -133,6 +200,10 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Deactivate
     protected void deactivate() {
         httpService.unregister(SERVLET_NAME);
+        synchronized (chartCache) {
+            chartCache.clear();
+            chartCacheSize = 0;
+        }
     }
 
     @Override
@@ -145,15 +216,15 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         Duration period = periodParam == null ? DEFAULT_PERIOD : PERIODS.getOrDefault(periodParam, DEFAULT_PERIOD);
 
         // Create the start and stop time
-        ZonedDateTime timeEnd = ZonedDateTime.now(timeZoneProvider.getTimeZone());
+        ZonedDateTime timeEnd = ZonedDateTime.now(clock.withZone(timeZoneProvider.getTimeZone()));
         ZonedDateTime timeBegin = timeEnd.minus(period);
 
         try {
-            BufferedImage chart = createChart(null, null, timeBegin, timeEnd, height, width, req.getParameter("items"),
+            byte[] chart = createChartPng(null, timeBegin, timeEnd, period, height, width, req.getParameter("items"),
                     req.getParameter("groups"), null, null, null);
             // Set the content type to that provided by the chart provider
             res.setContentType("image/" + getChartType());
-            ImageIO.write(chart, getChartType().toString(), res.getOutputStream());
+            res.getOutputStream().write(chart);
         } catch (ItemNotFoundException e) {
             logger.debug("Item not found error while generating chart", e);
             throw new ServletException("Item not found error while generating chart: " + e.getMessage());
@@ -183,33 +254,27 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
      * @param graphDef the graph definition to fill
      * @param item the item to add a line for
      * @param counter defines the number of the datasource and is used to determine the line color
+     * @param seriesData the data of the item fetched by {@link #fetchSeries(Series, long, long)}
      */
-    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter) {
+    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter,
+            SeriesData seriesData) {
         Color color = LINECOLORS[counter % LINECOLORS.length];
         String label = itemUIRegistry.getLabel(item.getName());
         String rrdName = RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
-        ConsolFun consolFun;
         if (label != null && label.contains("[") && label.contains("]")) {
             label = label.substring(0, label.indexOf('['));
         }
-        try {
-            Builder builder = RrdDb.getBuilder();
-            builder.setPool(RRD4jPersistenceService.getDatabasePool());
-            builder.setPath(rrdName);
-
-            RrdDb db = builder.build();
-            consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
-            db.close();
-        } catch (IOException e) {
-            consolFun = ConsolFun.MAX;
+        FetchData data = seriesData.data();
+        if (data != null) {
+            graphDef.datasource(Integer.toString(counter), "state", data);
+        } else {
+            graphDef.datasource(Integer.toString(counter), rrdName, "state", seriesData.consolFun());
         }
         if (item instanceof NumberItem) {
             // we only draw a line
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
             graphDef.line(Integer.toString(counter), color, label, 2);
         } else {
             // we draw a line and fill the area beneath it with a transparent color
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
             Color areaColor = AREACOLORS[counter % LINECOLORS.length];
 
             graphDef.area(Integer.toString(counter), areaColor);
@@ -217,6 +282,43 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         }
     }
 
+    /**
+     * Reads the data of one series from its database.
+     */
+    private SeriesData fetchSeries(Series series, long start, long end) {
+        Item item = series.item();
+        String alias = series.alias();
+        String rrdName = RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
+        try {
+            Builder builder = RrdDb.getBuilder();
+            builder.setPool(RRD4jPersistenceService.getDatabasePool());
+            builder.setPath(rrdName);
+
+            RrdDb db = builder.build();
+            try {
+                ConsolFun consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
+                FetchRequest request = db.createFetchRequest(consolFun, start, end);
+                long step = db.findMatchingArchive(request).getArcStep();
+                return new SeriesData(consolFun, request.fetchData(), step);
+            } finally {
+                db.close();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.debug("Could not fetch chart data for item '{}': {}", item.getName(), e.getMessage());
+            return new SeriesData(ConsolFun.MAX, null, 0);
+        }
+    }
+
+    private List<SeriesData> fetchAllSeries(List<Series> series, long start, long end) {
+        if (series.size() <= 1) {
+            return series.stream().map(s -> fetchSeries(s, start, end)).toList();
+        }
+        // reading the databases is mostly waiting for I/O, so read them in parallel
+        List<CompletableFuture<SeriesData>> futures = series.stream()
+                .map(s -> CompletableFuture.supplyAsync(() -> fetchSeries(s, start, end), fetchExecutor)).toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
     @Override
     public void init(@Nullable ServletConfig config) throws ServletException {
     }
@@ -248,18 +350,34 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             ZonedDateTime endTime, int height, int width, @Nullable String items, @Nullable String groups,
             @Nullable Integer dpi, @Nullable String interpolation, @Nullable Boolean legend)
             throws ItemNotFoundException {
-        RrdGraphDef graphDef = new RrdGraphDef(startTime.toEpochSecond(), endTime.toEpochSecond());
-        graphDef.setWidth(width);
-        graphDef.setHeight(height);
-        graphDef.setAntiAliasing(true);
-        graphDef.setImageFormat("PNG");
-        graphDef.setTextAntiAliasing(true);
-        graphDef.setFont(FontTag.TITLE, new Font("SansSerif", Font.PLAIN, 15));
-        graphDef.setFont(FontTag.DEFAULT, new Font("SansSerif", Font.PLAIN, 11));
+        byte[] png = createChartPng(theme, startTime, endTime, null, height, width, items, groups, dpi,
+                interpolation, legend);
+        try {
+            // every caller gets its own image, the cache only holds the encoded chart
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new IOException("Unreadable chart image");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error decoding chart", e);
+        }
+    }
+
+    /**
+     * @param period the period of a chart ending now, or null if the chart has a fixed time range
+     */
+    private byte[] createChartPng(@Nullable String theme, ZonedDateTime startTime, ZonedDateTime endTime,
+            @Nullable Duration period, int height, int width, @Nullable String items, @Nullable String groups,
+            @Nullable Integer dpi, @Nullable String interpolation, @Nullable Boolean legend)
+            throws ItemNotFoundException {
+        long start = startTime.toEpochSecond();
+        long end = endTime.toEpochSecond();
 
         PersistenceServiceConfiguration config = persistenceServiceConfigurationRegistry
                 .get(RRD4jPersistenceService.SERVICE_ID);
 
+        List<Series> series = new ArrayList<>();
         int seriesCounter = 0;
 
         // Loop through all the items
@@ -268,7 +386,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             for (String itemName : itemNames) {
                 String alias = config != null ? config.getAliases().get(itemName) : null;
                 Item item = itemUIRegistry.getItem(itemName);
-                addLine(graphDef, item, alias, seriesCounter++);
+                series.add(new Series(item, alias, seriesCounter++));
             }
         }
 
@@ -280,7 +398,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 if (item instanceof GroupItem groupItem) {
                     for (Item member : groupItem.getMembers()) {
                         String alias = config != null ? config.getAliases().get(member.getName()) : null;
-                        addLine(graphDef, member, alias, seriesCounter++);
+                        series.add(new Series(member, alias, seriesCounter++));
                     }
                 } else {
                     throw new ItemNotFoundException("Item '" + item.getName() + "' defined in groups is not a group.");
@@ -288,18 +406,76 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             }
         }
 
+        List<SeriesKey> seriesKeys = series.stream().map(s -> s.key(itemUIRegistry)).toList();
+        ChartKey key = period != null
+                ? new ChartKey(seriesKeys, 0, 0, period, height, width, dpi, theme, interpolation, legend)
+                : new ChartKey(seriesKeys, start, end, null, height, width, dpi, theme, interpolation, legend);
+        long now = clock.millis() / 1000;
+        synchronized (chartCache) {
+            CachedChart cached = chartCache.get(key);
+            if (cached != null && now < cached.validUntil()) {
+                logger.trace("Using cached chart for items '{}' and groups '{}'", items, groups);
+                return cached.png();
+            }
+        }
+
+        RrdGraphDef graphDef = new RrdGraphDef(start, end);
+        graphDef.setWidth(width);
+        graphDef.setHeight(height);
+        graphDef.setAntiAliasing(true);
+        graphDef.setImageFormat("PNG");
+        graphDef.setTextAntiAliasing(true);
+        graphDef.setFont(FontTag.TITLE, new Font("SansSerif", Font.PLAIN, 15));
+        graphDef.setFont(FontTag.DEFAULT, new Font("SansSerif", Font.PLAIN, 11));
+
+        List<SeriesData> seriesData = fetchAllSeries(series, start, end);
+        long minStep = Long.MAX_VALUE;
+        long maxStep = 0;
+        for (int i = 0; i < series.size(); i++) {
+            Series s = series.get(i);
+            SeriesData data = seriesData.get(i);
+            addLine(graphDef, s.item(), s.alias(), s.counter(), data);
+            minStep = Math.min(minStep, data.step());
+            maxStep = Math.max(maxStep, data.step());
+        }
+
         // Write the chart as a PNG image
         try {
             RrdGraph graph = new RrdGraph(graphDef);
             BufferedImage bi = new BufferedImage(graph.getRrdGraphInfo().getWidth(),
                     graph.getRrdGraphInfo().getHeight(), BufferedImage.TYPE_INT_RGB);
             graph.render(bi.getGraphics());
-            return bi;
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(bi, getChartType().toString(), out);
+            byte[] png = out.toByteArray();
+            // charts with unknown step (e.g. missing databases) are not cached
+            if (minStep > 0 && minStep < Long.MAX_VALUE) {
+                // the chart changes when the next step of any series is complete, unless its range was already complete
+                long validUntil = end < Math.floorDiv(now, maxStep) * maxStep ? Long.MAX_VALUE
+                        : (Math.floorDiv(now, minStep) + 1) * minStep;
+                cacheChart(key, new CachedChart(png, validUntil));
+            }
+            return png;
         } catch (IOException e) {
             throw new UncheckedIOException("Error generating RrdGraph", e);
         }
     }
 
+    private void cacheChart(ChartKey key, CachedChart chart) {
+        if (chart.png().length > MAX_CACHE_SIZE / 4) {
+            return;
+        }
+        synchronized (chartCache) {
+            CachedChart replaced = chartCache.put(key, chart);
+            chartCacheSize += chart.png().length - (replaced != null ? replaced.png().length : 0);
+            Iterator<CachedChart> iterator = chartCache.values().iterator();
+            while (chartCache.size() > MAX_CACHED_CHARTS || chartCacheSize > MAX_CACHE_SIZE) {
+                chartCacheSize -= iterator.next().png().length;
+                iterator.remove();
+            }
+        }
+    }
+
     @Override
     public ImageType getChartType() {
         return ImageType.png;
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link RRD4jWriteQueue}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jWriteQueueTest {
+
+    private record Write(String name, NavigableMap<Long, Double> values) {
+    }
+
+    private final List<Write> writes = new ArrayList<>();
+    private final RRD4jWriteQueue queue = new RRD4jWriteQueue((name, values) -> writes.add(new Write(name, values)));
+
+    @Test
+    void allSamplesOfAStepAreWrittenInOrder() {
+        // several samples within one step of 60 seconds, offered out of order
+        queue.offer("Item", 120, 3.0);
+        queue.offer("Item", 100, 1.0);
+        queue.offer("Item", 110, 2.0);
+
+        queue.flush(130, false);
+        assertEquals(1, writes.size());
+        assertEquals("Item", writes.get(0).name());
+        assertEquals(List.of(100L, 110L, 120L), new ArrayList<>(writes.get(0).values().keySet()));
+        assertEquals(List.of(1.0, 2.0, 3.0), new ArrayList<>(writes.get(0).values().values()));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void valuesOfTheCurrentSecondAreKept() {
+        queue.offer("Item", 100, 1.0);
+        queue.offer("Item", 101, 2.0);
+        // a newer value of the same second replaces the previous one
+        assertEquals(2.0, queue.offer("Item", 101, 3.0));
+
+        queue.flush(101, false);
+        assertEquals(Map.of(100L, 1.0), writes.get(0).values());
+        assertEquals(1, queue.size());
+
+        queue.flush(102, false);
+        assertEquals(Map.of(101L, 3.0), writes.get(1).values());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void forcedFlushOnShutdownWritesEverything() {
+        queue.offer("Item", 100, 1.0);
+        queue.offer("Item", 101, 2.0);
+        queue.offer("Other", 101, 5.0);
+
+        queue.flush(101, true);
+        assertEquals(2, writes.size());
+        assertEquals(0, queue.size());
+        assertEquals(3, writes.stream().mapToInt(write -> write.values().size()).sum());
+    }
+
+    @Test
+    void flushOfOneItemDoesNotBlockOtherItems() throws InterruptedException {
+        // the names are in different lock stripes
+        assertNotSame(queue.getLock("A"), queue.getLock("B"));
+
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RRD4jWriteQueue blockingQueue = new RRD4jWriteQueue((name, values) -> {
+            writing.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        blockingQueue.offer("A", 100, 1.0);
+        Thread flush = new Thread(() -> blockingQueue.flush(101, false));
+        flush.start();
+        try {
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+            // a query of another item takes its lock while the flush is writing
+            Lock lock = blockingQueue.getLock("B");
+            assertTrue(lock.tryLock(1, TimeUnit.SECONDS));
+            lock.unlock();
+        } finally {
+            release.countDown();
+            flush.join(10000);
+        }
+        assertFalse(flush.isAlive());
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
+import org.openhab.core.ui.items.ItemUIRegistry;
+import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
+import org.osgi.service.http.HttpService;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.Sample;
+
+/**
+ * Tests the chart cache of the {@link RRD4jChartServlet}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jChartServletTest {
+
+    private static final String ITEM = "Temperature";
+    private static final long STEP = 60;
+    // ten seconds into a step
+    private static final long NOW = 28333333 * STEP + 10;
+
+    static @TempDir @NonNullByDefault({}) Path userData;
+
+    private final ItemUIRegistry itemUIRegistry = mock(ItemUIRegistry.class);
+    private final TimeZoneProvider timeZoneProvider = mock(TimeZoneProvider.class);
+    private final TestClock clock = new TestClock();
+    private final RRD4jChartServlet servlet = new RRD4jChartServlet(mock(HttpService.class), itemUIRegistry,
+            timeZoneProvider, mock(PersistenceServiceConfigurationRegistry.class), clock);
+
+    private static class TestClock extends Clock {
+        private Instant instant = Instant.ofEpochSecond(NOW);
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(@Nullable ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @BeforeAll
+    public static void createDatabase() throws IOException {
+        // the database folder is resolved when the persistence service class is loaded
+        System.setProperty("openhab.userdata", userData.toString());
+        Path path = RRD4jPersistenceService.getDatabasePath(ITEM);
+        Files.createDirectories(path.getParent());
+
+        RrdDef def = new RrdDef(path.toString(), NOW - 2 * 3600, STEP);
+        def.addDatasource("state", DsType.GAUGE, 10 * STEP, Double.NaN, Double.NaN);
+        def.addArchive(ConsolFun.AVERAGE, 0.5, 1, 1440);
+        try (RrdDb db = RrdDb.getBuilder().setRrdDef(def).build()) {
+            Sample sample = db.createSample();
+            for (long time = NOW - 3600; time < NOW; time += STEP) {
+                sample.setTime(time);
+                sample.setValue("state", time % 7);
+                sample.update();
+            }
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(itemUIRegistry.getItem(ITEM)).thenReturn(new NumberItem(ITEM));
+        when(itemUIRegistry.getLabel(ITEM)).thenReturn("Temperature [%.1f]");
+        when(timeZoneProvider.getTimeZone()).thenReturn(ZoneOffset.UTC);
+    }
+
+    /**
+     * Requests a chart of the last hour and returns the written image.
+     */
+    private byte[] requestChart() throws Exception {
+        ServletRequest request = mock(ServletRequest.class);
+        when(request.getParameter("items")).thenReturn(ITEM);
+        when(request.getParameter("period")).thenReturn("h");
+
+        byte[][] written = new byte[1][];
+        ServletResponse response = mock(ServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(@Nullable WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(byte @Nullable [] b) {
+                written[0] = b;
+            }
+        });
+
+        servlet.service(request, response);
+        byte[] chart = written[0];
+        assertNotNull(chart);
+        return chart;
+    }
+
+    @Test
+    public void periodChartIsCachedWithinStep() throws Exception {
+        byte[] first = requestChart();
+
+        clock.instant = Instant.ofEpochSecond(NOW + 5);
+        assertSame(first, requestChart());
+
+        // the next step may change the chart
+        clock.instant = Instant.ofEpochSecond(NOW + STEP);
+        assertNotSame(first, requestChart());
+    }
+}
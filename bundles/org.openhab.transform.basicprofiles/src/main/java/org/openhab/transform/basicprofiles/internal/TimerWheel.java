@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed wheel timer shared by the time based profiles.
+ *
+ * Timeouts are kept in doubly linked lists, one per slot of the wheel, so scheduling, rescheduling and cancelling
+ * are O(1) and do not touch the {@link ScheduledExecutorService}. While timeouts are pending, a single task advances
+ * the wheel every tick and hands the expired timeouts to the executor. Timeouts fire at the first tick after their
+ * delay has passed, so they may be late by up to one tick, but are never early.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class TimerWheel {
+    private final Logger logger = LoggerFactory.getLogger(TimerWheel.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final long tickNanos;
+    private final int mask;
+    private final Timeout[] wheel;
+    private final long startNanos = System.nanoTime();
+
+    private long processedTick;
+    private int pendingCount;
+    private @Nullable ScheduledFuture<?> ticker;
+
+    /**
+     * @param scheduler the scheduler advancing the wheel, also used to run the expired tasks
+     * @param tickMillis the duration of one tick in milliseconds
+     * @param wheelSize the number of slots, rounded up to a power of two
+     */
+    public TimerWheel(ScheduledExecutorService scheduler, long tickMillis, int wheelSize) {
+        this.scheduler = scheduler;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.mask = size - 1;
+        this.wheel = new Timeout[size];
+        for (int i = 0; i < size; i++) {
+            // sentinel heads of the slot lists
+            wheel[i] = new Timeout(this, () -> {
+            });
+        }
+    }
+
+    /**
+     * Schedules a task.
+     *
+     * @param task the task to run
+     * @param delayMillis the delay in milliseconds
+     * @return the timeout, which can be cancelled or rescheduled
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        Timeout timeout = new Timeout(this, task);
+        synchronized (this) {
+            add(timeout, delayMillis);
+        }
+        return timeout;
+    }
+
+    /**
+     * Get the number of pending timeouts.
+     */
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Cancels all pending timeouts.
+     */
+    public synchronized void shutdown() {
+        for (Timeout head : wheel) {
+            while (head.next != head) {
+                unlink(head.next);
+            }
+        }
+        stopTicker();
+    }
+
+    // callers synchronize on this object
+    private void add(Timeout timeout, long delayMillis) {
+        if (pendingCount == 0) {
+            // the wheel was idle, continue from the current tick
+            processedTick = currentTick();
+            startTicker();
+        }
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        long deadlineTick = (System.nanoTime() - startNanos + delayNanos + tickNanos - 1) / tickNanos;
+        timeout.deadlineTick = Math.max(deadlineTick, processedTick + 1);
+        Timeout head = wheel[(int) (timeout.deadlineTick & mask)];
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+        pendingCount++;
+    }
+
+    // callers synchronize on this object
+    private void unlink(Timeout timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.next = timeout;
+        timeout.prev = timeout;
+        pendingCount--;
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - startNanos) / tickNanos;
+    }
+
+    private void startTicker() {
+        if (ticker == null) {
+            long tickMillis = TimeUnit.NANOSECONDS.toMillis(tickNanos);
+            ticker = scheduler.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stopTicker() {
+        ScheduledFuture<?> ticker = this.ticker;
+        if (ticker != null) {
+            ticker.cancel(false);
+            this.ticker = null;
+        }
+    }
+
+    private void tick() {
+        List<Runnable> expired = new ArrayList<>();
+        synchronized (this) {
+            long currentTick = currentTick();
+            // catch up on ticks missed because the scheduler was busy, at most one round
+            long firstTick = Math.max(processedTick + 1, currentTick - mask);
+            for (long tick = firstTick; tick <= currentTick; tick++) {
+                Timeout head = wheel[(int) (tick & mask)];
+                Timeout timeout = head.next;
+                while (timeout != head) {
+                    Timeout next = timeout.next;
+                    if (timeout.deadlineTick <= currentTick) {
+                        unlink(timeout);
+                        expired.add(timeout.task);
+                    }
+                    timeout = next;
+                }
+            }
+            processedTick = Math.max(processedTick, currentTick);
+            if (pendingCount == 0) {
+                stopTicker();
+            }
+        }
+        for (Runnable task : expired) {
+            scheduler.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Timer task failed: {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    /**
+     * A scheduled task.
+     */
+    public static class Timeout {
+        private final TimerWheel timer;
+        private Runnable task;
+        private long deadlineTick;
+        // links of the slot list, pointing to itself if not pending
+        private Timeout prev = this;
+        private Timeout next = this;
+
+        private Timeout(TimerWheel timer, Runnable task) {
+            this.timer = timer;
+            this.task = task;
+        }
+
+        /**
+         * Cancels the timeout.
+         *
+         * @return true if the timeout was pending, false if it already expired or was cancelled
+         */
+        public boolean cancel() {
+            synchronized (timer) {
+                if (next == this) {
+                    return false;
+                }
+                timer.unlink(this);
+                if (timer.pendingCount == 0) {
+                    timer.stopTicker();
+                }
+                return true;
+            }
+        }
+
+        /**
+         * Replaces the task and delay of a pending timeout.
+         *
+         * @param task the new task
+         * @param delayMillis the new delay in milliseconds, from now
+         * @return true if the timeout was rescheduled, false if it already expired or was cancelled
+         */
+        public boolean reschedule(Runnable task, long delayMillis) {
+            synchronized (timer) {
+                if (next == this) {
+                    return false;
+                }
+                timer.unlink(this);
+                this.task = task;
+                timer.add(this, delayMillis);
+                return true;
+            }
+        }
+
+        /**
+         * Checks if the timeout has neither expired nor been cancelled.
+         */
+        public boolean isPending() {
+            synchronized (timer) {
+                return next != this;
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.i18n.LocalizedKey;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.items.ItemRegistry;
@@ -40,6 +41,7 @@ import org.openhab.core.thing.profiles.ProfileTypeUID;
 import org.openhab.core.thing.profiles.i18n.ProfileTypeI18nLocalizationService;
 import org.openhab.core.thing.type.ChannelType;
 import org.openhab.core.util.BundleResolver;
+import org.openhab.transform.basicprofiles.internal.TimerWheel;
 import org.openhab.transform.basicprofiles.internal.profiles.DebounceCountingStateProfile;
 import org.openhab.transform.basicprofiles.internal.profiles.DebounceTimeStateProfile;
 import org.openhab.transform.basicprofiles.internal.profiles.GenericCommandTriggerProfile;
@@ -52,6 +54,7 @@ import org.openhab.transform.basicprofiles.internal.profiles.TimeRangeCommandPro
 import org.osgi.framework.Bundle;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 /**
@@ -116,6 +119,10 @@ public class BasicProfilesFactory implements ProfileFactory, ProfileTypeProvider
             PROFILE_TYPE_INVERT, PROFILE_TYPE_ROUND, PROFILE_TYPE_THRESHOLD, PROFILE_TYPE_TIME_RANGE_COMMAND,
             PROFILE_STATE_FILTER);
 
+    private static final String THREADPOOL_NAME = "profile-basicprofiles";
+    private static final long TIMER_TICK_MILLIS = 10;
+    private static final int TIMER_WHEEL_SIZE = 512;
+
     private final Map<LocalizedKey, ProfileType> localizedProfileTypeCache = new ConcurrentHashMap<>();
 
     private final ProfileTypeI18nLocalizationService profileTypeI18nLocalizationService;
@@ -123,6 +130,8 @@ public class BasicProfilesFactory implements ProfileFactory, ProfileTypeProvider
     private final Bundle bundle;
     private final ItemRegistry itemRegistry;
     private final TimeZoneProvider timeZoneProvider;
+    private final TimerWheel timerWheel = new TimerWheel(ThreadPoolManager.getScheduledPool(THREADPOOL_NAME),
+            TIMER_TICK_MILLIS, TIMER_WHEEL_SIZE);
 
     @Activate
     public BasicProfilesFactory(final @Reference ProfileTypeI18nLocalizationService profileTypeI18nLocalizationService,
@@ -134,6 +143,11 @@ public class BasicProfilesFactory implements ProfileFactory, ProfileTypeProvider
         this.timeZoneProvider = timeZoneProvider;
     }
 
+    @Deactivate
+    public void deactivate() {
+        timerWheel.shutdown();
+    }
+
     @Override
     public @Nullable Profile createProfile(ProfileTypeUID profileTypeUID, ProfileCallback callback,
             ProfileContext context) {
@@ -144,7 +158,7 @@ public class BasicProfilesFactory implements ProfileFactory, ProfileTypeProvider
         } else if (DEBOUNCE_COUNTING_UID.equals(profileTypeUID)) {
             return new DebounceCountingStateProfile(callback, context);
         } else if (DEBOUNCE_TIME_UID.equals(profileTypeUID)) {
-            return new DebounceTimeStateProfile(callback, context);
+            return new DebounceTimeStateProfile(callback, context, timerWheel);
         } else if (INVERT_UID.equals(profileTypeUID)) {
             return new InvertStateProfile(callback);
         } else if (ROUND_UID.equals(profileTypeUID)) {
@@ -14,10 +14,6 @@ package org.openhab.transform.basicprofiles.internal.profiles;
 
 import static org.openhab.transform.basicprofiles.internal.factory.BasicProfilesFactory.DEBOUNCE_TIME_UID;
 
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
-
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.thing.profiles.ProfileCallback;
@@ -26,6 +22,8 @@ import org.openhab.core.thing.profiles.ProfileTypeUID;
 import org.openhab.core.thing.profiles.StateProfile;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
+import org.openhab.transform.basicprofiles.internal.TimerWheel;
+import org.openhab.transform.basicprofiles.internal.TimerWheel.Timeout;
 import org.openhab.transform.basicprofiles.internal.config.DebounceTimeStateProfileConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +31,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Debounces a {@link State} by time.
  *
+ * The delays are scheduled on a {@link TimerWheel} shared by all profiles, so frequent updates only relink a timeout
+ * instead of cancelling and scheduling futures.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -41,14 +42,14 @@ public class DebounceTimeStateProfile implements StateProfile {
 
     private final ProfileCallback callback;
     private final DebounceTimeStateProfileConfig config;
-    private final ScheduledExecutorService scheduler;
+    private final TimerWheel timer;
 
-    private @Nullable ScheduledFuture<?> toHandlerJob;
-    private @Nullable ScheduledFuture<?> toItemJob;
+    private volatile @Nullable Timeout toHandlerJob;
+    private volatile @Nullable Timeout toItemJob;
 
-    public DebounceTimeStateProfile(ProfileCallback callback, ProfileContext context) {
+    public DebounceTimeStateProfile(ProfileCallback callback, ProfileContext context, TimerWheel timer) {
         this.callback = callback;
-        this.scheduler = context.getExecutorService();
+        this.timer = timer;
         this.config = context.getConfiguration().as(DebounceTimeStateProfileConfig.class);
         logger.debug("Configuring profile with parameters: {}", config);
 
@@ -80,14 +81,10 @@ public class DebounceTimeStateProfile implements StateProfile {
             callback.handleCommand(command);
             return;
         }
-        ScheduledFuture<?> localToHandlerJob = toHandlerJob;
+        Timeout localToHandlerJob = toHandlerJob;
         if (config.mode == DebounceTimeStateProfileConfig.DebounceMode.LAST) {
-            if (localToHandlerJob != null) {
-                // if we have an old job, cancel it
-                localToHandlerJob.cancel(true);
-            }
-            logger.trace("Scheduling command '{}'", command);
-            scheduleToHandler(() -> {
+            logger.trace("Scheduling command '{}', {} timers pending", command, timer.getPendingCount());
+            scheduleToHandler(localToHandlerJob, () -> {
                 logger.debug("Sending command '{}' to handler", command);
                 callback.handleCommand(command);
             });
@@ -95,20 +92,24 @@ public class DebounceTimeStateProfile implements StateProfile {
             if (localToHandlerJob == null) {
                 // send the value only if we don't have a job
                 callback.handleCommand(command);
-                scheduleToHandler(null);
+                scheduleToHandler(null, null);
             } else {
                 logger.trace("Discarding command to handler '{}'", command);
             }
         }
     }
 
-    private void scheduleToHandler(@Nullable Runnable function) {
-        toHandlerJob = scheduler.schedule(() -> {
+    private void scheduleToHandler(@Nullable Timeout oldJob, @Nullable Runnable function) {
+        Runnable task = () -> {
             if (function != null) {
                 function.run();
             }
             toHandlerJob = null;
-        }, config.toHandlerDelay, TimeUnit.MILLISECONDS);
+        };
+        // if we have an old job, replace it
+        if (oldJob == null || !oldJob.reschedule(task, config.toHandlerDelay)) {
+            toHandlerJob = timer.schedule(task, config.toHandlerDelay);
+        }
     }
 
     @Override
@@ -119,14 +120,10 @@ public class DebounceTimeStateProfile implements StateProfile {
             return;
         }
 
-        ScheduledFuture<?> localToItemJob = toItemJob;
+        Timeout localToItemJob = toItemJob;
         if (config.mode == DebounceTimeStateProfileConfig.DebounceMode.LAST) {
-            if (localToItemJob != null) {
-                // if we have an old job, cancel it
-                localToItemJob.cancel(true);
-            }
-            logger.trace("Scheduling command '{}' to item", command);
-            scheduleToItem(() -> {
+            logger.trace("Scheduling command '{}' to item, {} timers pending", command, timer.getPendingCount());
+            scheduleToItem(localToItemJob, () -> {
                 logger.debug("Sending command '{}' to item", command);
                 callback.sendCommand(command);
             });
@@ -134,7 +131,7 @@ public class DebounceTimeStateProfile implements StateProfile {
             if (localToItemJob == null) {
                 // only schedule a new job if we have none
                 callback.sendCommand(command);
-                scheduleToItem(null);
+                scheduleToItem(null, null);
             } else {
                 logger.trace("Discarding command to item '{}'", command);
             }
@@ -148,14 +145,10 @@ public class DebounceTimeStateProfile implements StateProfile {
             callback.sendUpdate(state);
             return;
         }
-        ScheduledFuture<?> localToItemJob = toItemJob;
+        Timeout localToItemJob = toItemJob;
         if (config.mode == DebounceTimeStateProfileConfig.DebounceMode.LAST) {
-            if (localToItemJob != null) {
-                // if we have an old job, cancel it
-                localToItemJob.cancel(true);
-            }
-            logger.trace("Scheduling state update '{}' to item", state);
-            scheduleToItem(() -> {
+            logger.trace("Scheduling state update '{}' to item, {} timers pending", state, timer.getPendingCount());
+            scheduleToItem(localToItemJob, () -> {
                 logger.debug("Sending state update '{}' to item", state);
                 callback.sendUpdate(state);
             });
@@ -163,19 +156,23 @@ public class DebounceTimeStateProfile implements StateProfile {
             if (toItemJob == null) {
                 // only schedule a new job if we have none
                 callback.sendUpdate(state);
-                scheduleToItem(null);
+                scheduleToItem(null, null);
             } else {
                 logger.trace("Discarding state update to item '{}'", state);
             }
         }
     }
 
-    private void scheduleToItem(@Nullable Runnable function) {
-        toItemJob = scheduler.schedule(() -> {
+    private void scheduleToItem(@Nullable Timeout oldJob, @Nullable Runnable function) {
+        Runnable task = () -> {
             if (function != null) {
                 function.run();
             }
             toItemJob = null;
-        }, config.toItemDelay, TimeUnit.MILLISECONDS);
+        };
+        // if we have an old job, replace it
+        if (oldJob == null || !oldJob.reschedule(task, config.toItemDelay)) {
+            toItemJob = timer.schedule(task, config.toItemDelay);
+        }
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.transform.basicprofiles.internal.TimerWheel.Timeout;
+
+/**
+ * Basic unit tests for {@link TimerWheel}.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class TimerWheelTest {
+
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @NonNullByDefault({}) TimerWheel timer;
+
+    @BeforeEach
+    public void setup() {
+        scheduler = Executors.newScheduledThreadPool(2);
+        timer = new TimerWheel(scheduler, 5, 8);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        timer.shutdown();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testTimeoutFiresNotEarly() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        Timeout timeout = timer.schedule(latch::countDown, 100);
+
+        assertTrue(timeout.isPending());
+        assertEquals(1, timer.getPendingCount());
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+        assertFalse(timeout.isPending());
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    public void testDelayLongerThanOneRound() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        // 8 slots of 5 ms, so the timeout passes its slot several times before it expires
+        timer.schedule(latch::countDown, 120);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 120);
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        Timeout timeout = timer.schedule(runs::incrementAndGet, 20);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertFalse(timeout.isPending());
+        assertEquals(0, timer.getPendingCount());
+        Thread.sleep(100);
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    public void testReschedule() throws InterruptedException {
+        AtomicInteger first = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        Timeout timeout = timer.schedule(first::incrementAndGet, 50);
+
+        assertTrue(timeout.reschedule(latch::countDown, 80));
+        assertEquals(1, timer.getPendingCount());
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(0, first.get());
+        // an expired timeout can't be rescheduled
+        assertFalse(timeout.reschedule(first::incrementAndGet, 10));
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    public void testFailingTaskDoesNotStopWheel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(() -> {
+            throw new IllegalStateException("test");
+        }, 10);
+        timer.schedule(latch::countDown, 30);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownCancelsPendingTimeouts() {
+        Timeout first = timer.schedule(() -> {
+        }, 1000);
+        Timeout second = timer.schedule(() -> {
+        }, 2000);
+        assertEquals(2, timer.getPendingCount());
+
+        timer.shutdown();
+
+        assertEquals(0, timer.getPendingCount());
+        assertFalse(first.isPending());
+        assertFalse(second.isPending());
+    }
+}
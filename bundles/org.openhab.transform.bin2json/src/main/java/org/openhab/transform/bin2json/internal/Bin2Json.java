@@ -14,16 +14,21 @@ package org.openhab.transform.bin2json.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
 import com.igormaznitsa.jbbp.JBBPParser;
 import com.igormaznitsa.jbbp.exceptions.JBBPException;
 import com.igormaznitsa.jbbp.model.JBBPAbstractArrayField;
@@ -66,11 +71,16 @@ import com.igormaznitsa.jbbp.model.JBBPFieldUShort;
  * json.toString() = {"a":3,"b":-6,"c":255}}
  * </pre>
  *
+ * An instance can be reused for any number of conversions, also concurrently, as the prepared parser keeps no state
+ * of a conversion besides the informational final stream byte counter.
+ *
  * @author Pauli Anttila - Initial contribution
  *
  */
 public class Bin2Json {
 
+    private static final Gson GSON = new Gson();
+
     private final Logger logger = LoggerFactory.getLogger(Bin2Json.class);
 
     private JBBPParser parser;
@@ -137,6 +147,45 @@ public class Bin2Json {
         }
     }
 
+    /**
+     * Convert {@link String} in hexadecimal string format to a JSON string.
+     *
+     * @param hexString Data in hexadecimal string format. Example data: 03FAFF
+     * @return the JSON string, equal to the string representation of {@link #convert(String)}
+     * @throws ConversionException
+     */
+    public String convertToString(String hexString) throws ConversionException {
+        try {
+            return convertToString(HexUtils.hexToBytes(hexString));
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException(String.format("Illegal hexstring , reason: %s", e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Convert byte array to a JSON string.
+     *
+     * The JSON is written directly instead of building a {@link JsonObject} first.
+     *
+     * @param data Data in byte array format.
+     * @return the JSON string, equal to the string representation of {@link #convert(byte[])}
+     * @throws ConversionException
+     */
+    public String convertToString(byte[] data) throws ConversionException {
+        try {
+            JBBPFieldStruct struct = parser.parse(data);
+            StringWriter out = new StringWriter();
+            JsonWriter writer = new JsonWriter(out);
+            writeObject(writer, struct);
+            writer.flush();
+            return out.toString();
+        } catch (IOException e) {
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+        } catch (JBBPException e) {
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+        }
+    }
+
     private JsonObject convert(JBBPFieldStruct data) throws ConversionException {
         try {
             LocalDateTime start = LocalDateTime.now();
@@ -234,4 +283,106 @@ public class Bin2Json {
         }
         return jsn;
     }
+
+    // writes the fields of the struct as object, like convertToJSon(null, struct)
+    private void writeObject(JsonWriter writer, JBBPFieldStruct struct) throws IOException, ConversionException {
+        if (hasDuplicateNames(struct)) {
+            // later fields replace earlier ones with the same name in a JsonObject
+            GSON.toJson(convertToJSon(struct), writer);
+            return;
+        }
+        writer.beginObject();
+        for (final JBBPAbstractField f : struct.getArray()) {
+            writeField(writer, f);
+        }
+        writer.endObject();
+    }
+
+    private boolean hasDuplicateNames(JBBPFieldStruct struct) {
+        Set<String> names = new HashSet<>();
+        for (final JBBPAbstractField f : struct.getArray()) {
+            if (!names.add(getFieldName(f))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getFieldName(JBBPAbstractField field) {
+        return field.getFieldName() == null ? "nonamed" : field.getFieldName();
+    }
+
+    // writes the field as object member, like convertToJSon(json, field)
+    private void writeField(JsonWriter writer, final JBBPAbstractField field) throws IOException, ConversionException {
+        writer.name(getFieldName(field));
+        if (field instanceof JBBPAbstractArrayField) {
+            writer.beginArray();
+            if (field instanceof JBBPFieldArrayBit bit) {
+                for (final byte b : bit.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayBoolean boolean1) {
+                for (final boolean b : boolean1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayByte byte1) {
+                for (final byte b : byte1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayInt int1) {
+                for (final int b : int1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayLong long1) {
+                for (final long b : long1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayShort short1) {
+                for (final short b : short1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayStruct array) {
+                for (int i = 0; i < array.size(); i++) {
+                    JBBPFieldStruct element = array.getElementAt(i);
+                    writer.beginObject();
+                    writer.name(getFieldName(element));
+                    writeObject(writer, element);
+                    writer.endObject();
+                }
+            } else if (field instanceof JBBPFieldArrayUByte byte1) {
+                for (final byte b : byte1.getArray()) {
+                    writer.value(b & 0xFF);
+                }
+            } else if (field instanceof JBBPFieldArrayUShort short1) {
+                for (final short b : short1.getArray()) {
+                    writer.value(b & 0xFFFF);
+                }
+            } else {
+                throw new ConversionException(String.format("Unexpected field type '%s'", field));
+            }
+            writer.endArray();
+        } else {
+            if (field instanceof JBBPFieldBit bit) {
+                writer.value(bit.getAsInt());
+            } else if (field instanceof JBBPFieldBoolean boolean1) {
+                writer.value(boolean1.getAsBool());
+            } else if (field instanceof JBBPFieldByte byte1) {
+                writer.value(byte1.getAsInt());
+            } else if (field instanceof JBBPFieldInt int1) {
+                writer.value(int1.getAsInt());
+            } else if (field instanceof JBBPFieldLong long1) {
+                writer.value(long1.getAsLong());
+            } else if (field instanceof JBBPFieldShort short1) {
+                writer.value(short1.getAsInt());
+            } else if (field instanceof JBBPFieldStruct struct) {
+                writeObject(writer, struct);
+            } else if (field instanceof JBBPFieldUByte byte1) {
+                writer.value(byte1.getAsInt());
+            } else if (field instanceof JBBPFieldUShort short1) {
+                writer.value(short1.getAsInt());
+            } else {
+                throw new ConversionException(String.format("Unexpected field '%s'", field));
+            }
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.bin2json.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.util.HexUtils;
+
+/**
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class Bin2JsonTransformationServiceTest {
+
+    private static final String PRIMITIVES_SYNTAX = "bit:4 [2] bits; bool f; short s; ushort us; int i; long l; "
+            + "ubyte [2] ub; ushort [1] uss; byte [2] bb; int [1] ia; long [1] la; bool [2] ba; short [1] sa;";
+    private static final String PRIMITIVES_DATA = "F1" + "01" + "FFFE" + "FFFE" + "80000001" + "8000000000000001"
+            + "FF01" + "FFFF" + "FF01" + "FFFFFFFF" + "FFFFFFFFFFFFFFFF" + "0100" + "8000";
+
+    private static final String STRUCT_SYNTAX = "header { ubyte a; ushort b; } items [2] { byte x; ubyte y; } "
+            + "ubyte tail;";
+    private static final String STRUCT_DATA = "01" + "0002" + "FF01" + "7F80" + "05";
+
+    // unnamed fields share the name "nonamed", the last one wins
+    private static final String UNNAMED_SYNTAX = "byte; ubyte a; byte;";
+    private static final String UNNAMED_DATA = "FF0102";
+
+    private @NonNullByDefault({}) Bin2JsonTransformationService processor;
+
+    @BeforeEach
+    public void init() {
+        processor = new Bin2JsonTransformationService();
+    }
+
+    private void assertSameAsJsonObject(String syntax, String hexData) throws Exception {
+        String expected = new Bin2Json(syntax).convert(hexData).toString();
+
+        assertEquals(expected, new Bin2Json(syntax).convertToString(hexData));
+        assertEquals(expected, new Bin2Json(syntax).convertToString(HexUtils.hexToBytes(hexData)));
+        assertEquals(expected, processor.transform(syntax, hexData));
+        assertEquals(expected, processor.transform(syntax, HexUtils.hexToBytes(hexData)));
+    }
+
+    @Test
+    public void testTransform() throws TransformationException {
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", processor.transform("ubyte a; byte b; ubyte c;", "03FAFF"));
+    }
+
+    @Test
+    public void testTransformBytes() throws TransformationException {
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}",
+                processor.transform("ubyte a; byte b; ubyte c;", new byte[] { 3, -6, -1 }));
+    }
+
+    @Test
+    public void testPrimitivesMatchJsonObject() throws Exception {
+        assertSameAsJsonObject(PRIMITIVES_SYNTAX, PRIMITIVES_DATA);
+    }
+
+    @Test
+    public void testStructsMatchJsonObject() throws Exception {
+        assertSameAsJsonObject(STRUCT_SYNTAX, STRUCT_DATA);
+    }
+
+    @Test
+    public void testUnnamedFieldsMatchJsonObject() throws Exception {
+        assertSameAsJsonObject(UNNAMED_SYNTAX, UNNAMED_DATA);
+    }
+
+    @Test
+    public void testCachedParserIsReused() throws TransformationException {
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", processor.transform("ubyte a; byte b; ubyte c;", "03FAFF"));
+        assertEquals("{\"a\":1,\"b\":2,\"c\":3}", processor.transform("ubyte a; byte b; ubyte c;", "010203"));
+    }
+
+    @Test
+    public void testIllegalHexStringThrows() {
+        assertThrows(TransformationException.class, () -> processor.transform("ubyte a;", "0G"));
+    }
+}
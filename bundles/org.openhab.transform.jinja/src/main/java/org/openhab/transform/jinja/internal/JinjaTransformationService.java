@@ -16,9 +16,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -31,12 +33,23 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.InterpretException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.interpret.TemplateSyntaxException;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by Jinja2 Expressions.
  *
+ * <p>
+ * The parsed node trees of the most recently used templates are cached. Templates with parse errors are not cached
+ * but rendered from scratch each time. Errors of both are reported as {@link TransformationException}, as before.
+ *
  * @author Jochen Klein - Initial contribution
  *
  */
@@ -44,10 +57,25 @@ import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 @Component(property = { "openhab.transform=JINJA" })
 public class JinjaTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_TEMPLATES = 256;
+    private static final String VALUE_JSON = "value_json";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
     private final Jinjava jinjava = new Jinjava();
 
+    private final Map<String, Node> templateCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, Node> eldest) {
+            return size() > MAX_CACHED_TEMPLATES;
+        }
+    };
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
     /**
      * Transforms the input <code>value</code> by Jinja template.
      *
@@ -64,15 +92,20 @@ public class JinjaTransformationService implements TransformationService {
 
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
+        // parsing the value is only needed if the template uses it
+        if (template.contains(VALUE_JSON)) {
+            try {
+                JsonNode tree = OBJECT_MAPPER.readTree(value);
+                bindings.put(VALUE_JSON, toObject(tree));
+            } catch (IOException e) {
+                // ok, then value_json is null...
+            }
         }
 
         try {
-            transformationResult = jinjava.render(template, bindings);
+            Node root = getParsedTemplate(template);
+            transformationResult = root != null ? render(template, root, bindings)
+                    : jinjava.render(template, bindings);
         } catch (FatalTemplateErrorsException e) {
             throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
         }
@@ -82,6 +115,87 @@ public class JinjaTransformationService implements TransformationService {
         return transformationResult;
     }
 
+    /**
+     * Gets the parsed template from the cache or parses it.
+     *
+     * @return the root node, or null if the template has errors
+     */
+    private @Nullable Node getParsedTemplate(String template) {
+        Node root;
+        synchronized (templateCache) {
+            root = templateCache.get(template);
+        }
+        if (root != null) {
+            cacheHits.increment();
+            return root;
+        }
+
+        cacheMisses.increment();
+        JinjavaInterpreter interpreter = jinjava.newInterpreter();
+        try {
+            root = interpreter.parse(template);
+        } catch (RuntimeException e) {
+            // rendering the template text reports the error
+            return null;
+        }
+        if (!interpreter.getErrorsCopy().isEmpty()) {
+            return null;
+        }
+        synchronized (templateCache) {
+            templateCache.put(template, root);
+        }
+        if (logger.isDebugEnabled()) {
+            long hits = cacheHits.sum();
+            long total = hits + cacheMisses.sum();
+            logger.debug("parsed template '{}', template cache hit rate {}% ({} of {})", template, hits * 100 / total,
+                    hits, total);
+        }
+        return root;
+    }
+
+    // renders a parsed template like Jinjava.render(String, Map) and renderForResult render the template text
+    private String render(String template, Node root, Map<String, @Nullable Object> bindings) {
+        Context globalContext = jinjava.getGlobalContext();
+        Context context = new Context(globalContext, bindings, jinjava.getGlobalConfig().getDisabled());
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        String output = "";
+        List<TemplateError> errors;
+        try {
+            output = interpreter.render(root);
+            errors = interpreter.getErrorsCopy();
+        } catch (TemplateSyntaxException e) {
+            errors = withError(interpreter, TemplateError.fromException(e));
+        } catch (InterpretException e) {
+            errors = withError(interpreter, TemplateError.fromSyntaxError(e));
+        } catch (Exception e) {
+            errors = withError(interpreter, TemplateError.fromException(e));
+        } finally {
+            globalContext.reset();
+            JinjavaInterpreter.popCurrent();
+        }
+        List<TemplateError> fatalErrors = errors.stream().filter(error -> error.getSeverity() == ErrorType.FATAL)
+                .toList();
+        if (!fatalErrors.isEmpty()) {
+            throw new FatalTemplateErrorsException(template, fatalErrors);
+        }
+        return output;
+    }
+
+    private static List<TemplateError> withError(JinjavaInterpreter interpreter, TemplateError error) {
+        List<TemplateError> errors = new ArrayList<>(interpreter.getErrorsCopy());
+        errors.add(error);
+        return errors;
+    }
+
+    long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
     private static @Nullable Object toObject(JsonNode node) {
         switch (node.getNodeType()) {
             case ARRAY: {
@@ -75,6 +75,15 @@ public class JinjaTransformationServiceTest {
                 () -> processor.transform("Hello {{{ value_json.string }}!", "{\"string\": \"world\"}"));
     }
 
+    @Test
+    public void testRenderError() {
+        // the template parses, but fails when rendered
+        String template = "{% for %}{{ value }}{% endfor %}";
+        assertThrows(TransformationException.class, () -> processor.transform(template, "world"));
+        // also when rendered from the template cache
+        assertThrows(TransformationException.class, () -> processor.transform(template, "world"));
+    }
+
     @Test
     public void testMissingVariableError() throws TransformationException {
         assertEquals("Hello !", processor.transform("Hello {{ missing }}!", "{\"string\": \"world\"}"));
@@ -113,4 +122,15 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testCachedTemplate() throws TransformationException {
+        // when rendering the same template with different values
+        assertEquals("Hello world!", processor.transform("Hello {{ value_json.string }}!", "{\"string\": \"world\"}"));
+        assertEquals("Hello moon!", processor.transform("Hello {{ value_json.string }}!", "{\"string\": \"moon\"}"));
+
+        // then the template is parsed once
+        assertEquals(1, processor.getCacheMisses());
+        assertEquals(1, processor.getCacheHits());
+    }
 }
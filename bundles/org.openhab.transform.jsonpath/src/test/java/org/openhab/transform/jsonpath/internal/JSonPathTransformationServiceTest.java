@@ -129,4 +129,16 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testCachedDocumentAndPath() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        // an equal source in a new string instance
+        assertEquals("2", processor.transform("$[1].id", new String(JSON_ARRAY)));
+
+        String changed = JSON_ARRAY.replace("bob", "carol");
+        assertEquals("carol", processor.transform("$[0].name", changed));
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+    }
 }
@@ -75,4 +75,16 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_cachedPattern() throws TransformationException {
+        assertEquals("12", processor.transform("X(\\d+)", "X12"));
+        assertEquals("34", processor.transform("X(\\d+)", "X34"));
+        assertEquals("varX=12 Y54", processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /", "X12,Y54"));
+        assertEquals("varY=54 ", processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /", "Y54"));
+
+        // Asserts
+        assertEquals(2, processor.getCacheMisses());
+        assertEquals(2, processor.getCacheHits());
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The compiled content of a scale file.
+ *
+ * The first range containing a value, in the order of the file, determines its label. If no two ranges overlap, at
+ * most one range contains a value, so the ranges are sorted by their lower limit and looked up by binary search.
+ * Otherwise they are scanned in the order of the file.
+ *
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class ScaleTable {
+
+    /**
+     * A range and its label
+     */
+    public record Band(Range range, String label) {
+    }
+
+    // sorts by lower limit, unbounded first, and for equal limits the inclusive one first
+    private static final Comparator<Band> LOWER_LIMIT_ORDER = (a, b) -> {
+        BigDecimal minA = a.range().min;
+        BigDecimal minB = b.range().min;
+        if (minA == null || minB == null) {
+            return minA == null ? (minB == null ? 0 : -1) : 1;
+        }
+        int cmp = minA.compareTo(minB);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return Boolean.compare(b.range().minInclusive, a.range().minInclusive);
+    };
+
+    private final Band[] bands;
+    private final boolean sorted;
+    private final String format;
+    private final @Nullable String nonNumeric;
+
+    /**
+     * @param bands the ranges in the order of the file
+     * @param format the presentation format
+     * @param nonNumeric the label of non-numeric values, or null if there is none
+     */
+    public ScaleTable(List<Band> bands, String format, @Nullable String nonNumeric) {
+        this.format = format;
+        this.nonNumeric = nonNumeric;
+
+        List<Band> candidates = new ArrayList<>(bands.size());
+        for (Band band : bands) {
+            if (!isEmpty(band.range())) {
+                candidates.add(band);
+            }
+        }
+        List<Band> byLowerLimit = new ArrayList<>(candidates);
+        byLowerLimit.sort(LOWER_LIMIT_ORDER);
+        boolean disjoint = true;
+        for (int i = 1; i < byLowerLimit.size() && disjoint; i++) {
+            disjoint = !overlaps(byLowerLimit.get(i - 1).range(), byLowerLimit.get(i).range());
+        }
+        this.sorted = disjoint;
+        this.bands = (disjoint ? byLowerLimit : candidates).toArray(Band[]::new);
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public @Nullable String getNonNumeric() {
+        return nonNumeric;
+    }
+
+    /**
+     * Gets the label of the first range containing the value.
+     *
+     * @param value the value
+     * @return the label, or null if no range contains the value
+     */
+    public @Nullable String getLabel(BigDecimal value) {
+        if (!sorted) {
+            for (Band band : bands) {
+                if (band.range().contains(value)) {
+                    return band.label();
+                }
+            }
+            return null;
+        }
+
+        // find the last range starting at or before the value, it's the only one that may contain it
+        int low = 0;
+        int high = bands.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startsAtOrBefore(bands[mid].range(), value)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == 0) {
+            return null;
+        }
+        Band band = bands[low - 1];
+        return band.range().contains(value) ? band.label() : null;
+    }
+
+    /**
+     * Checks whether the ranges are looked up by binary search.
+     */
+    boolean isSorted() {
+        return sorted;
+    }
+
+    private static boolean startsAtOrBefore(Range range, BigDecimal value) {
+        if (range.min == null) {
+            return true;
+        }
+        int cmp = range.min.compareTo(value);
+        return cmp < 0 || (cmp == 0 && range.minInclusive);
+    }
+
+    private static boolean isEmpty(Range range) {
+        if (range.min == null || range.max == null) {
+            return false;
+        }
+        int cmp = range.min.compareTo(range.max);
+        return cmp > 0 || (cmp == 0 && !(range.minInclusive && range.maxInclusive));
+    }
+
+    // checks if two non-empty ranges overlap, the first one not starting after the second one
+    private static boolean overlaps(Range first, Range second) {
+        if (first.max == null || second.min == null) {
+            return true;
+        }
+        int cmp = first.max.compareTo(second.min);
+        return cmp > 0 || (cmp == 0 && first.maxInclusive && second.minInclusive);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Snickermicker - Initial contribution
+ */
+@NonNullByDefault
+public class ScaleTableTest {
+
+    private static BigDecimal bd(int value) {
+        return BigDecimal.valueOf(value);
+    }
+
+    @Test
+    public void testDisjointRangesAreSorted() {
+        ScaleTable table = new ScaleTable(List.of( //
+                new ScaleTable.Band(Range.range(bd(10), true, null, false), "high"),
+                new ScaleTable.Band(Range.range(bd(0), false, bd(10), false), "mid"),
+                new ScaleTable.Band(Range.range(bd(0), true, bd(0), true), "zero"),
+                new ScaleTable.Band(Range.range(null, false, bd(0), false), "low")), "%label%", null);
+
+        assertTrue(table.isSorted());
+        assertEquals("low", table.getLabel(bd(-5)));
+        assertEquals("zero", table.getLabel(bd(0)));
+        assertEquals("mid", table.getLabel(new BigDecimal("9.99")));
+        assertEquals("high", table.getLabel(bd(10)));
+    }
+
+    @Test
+    public void testGapReturnsNull() {
+        ScaleTable table = new ScaleTable(List.of( //
+                new ScaleTable.Band(Range.range(bd(0), true, bd(10), false), "a"),
+                new ScaleTable.Band(Range.range(bd(20), true, bd(30), false), "b")), "%label%", null);
+
+        assertTrue(table.isSorted());
+        assertNull(table.getLabel(bd(15)));
+        assertNull(table.getLabel(bd(-1)));
+        assertNull(table.getLabel(bd(30)));
+    }
+
+    @Test
+    public void testOverlappingRangesKeepFileOrder() {
+        ScaleTable table = new ScaleTable(List.of( //
+                new ScaleTable.Band(Range.range(bd(0), true, bd(10), true), "first"),
+                new ScaleTable.Band(Range.range(bd(10), true, bd(20), true), "second"),
+                new ScaleTable.Band(Range.range(null, false, null, false), "all")), "%label%", null);
+
+        assertFalse(table.isSorted());
+        assertEquals("first", table.getLabel(bd(10)));
+        assertEquals("second", table.getLabel(bd(15)));
+        assertEquals("all", table.getLabel(bd(25)));
+    }
+
+    @Test
+    public void testBinarySearchMatchesLinearScan() {
+        Random random = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            List<ScaleTable.Band> bands = new ArrayList<>();
+            int limit = random.nextInt(5) - 50;
+            while (limit < 50) {
+                int next = limit + random.nextInt(5);
+                bands.add(new ScaleTable.Band(Range.range(bd(limit), random.nextBoolean(), bd(next),
+                        random.nextBoolean()), "band" + bands.size()));
+                limit = next;
+            }
+            ScaleTable table = new ScaleTable(bands, "%label%", null);
+            for (int value = -60; value <= 60; value++) {
+                assertEquals(linearScan(bands, bd(value)), table.getLabel(bd(value)));
+            }
+        }
+    }
+
+    private @Nullable String linearScan(List<ScaleTable.Band> bands, BigDecimal value) {
+        return bands.stream().filter(band -> band.range().contains(value)).findFirst().map(ScaleTable.Band::label)
+                .orElse(null);
+    }
+}
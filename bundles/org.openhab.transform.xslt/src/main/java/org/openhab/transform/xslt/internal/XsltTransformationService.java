@@ -15,9 +15,11 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -35,6 +37,9 @@ import org.slf4j.LoggerFactory;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XSLT.
  *
+ * <p>
+ * The stylesheets are compiled to {@link Templates} once and compiled again when the file changes.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
@@ -43,6 +48,15 @@ public class XsltTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    /**
+     * A compiled stylesheet and the state of the file it was compiled from.
+     */
+    private record CachedTemplates(Templates templates, long lastModified, long length) {
+    }
+
+    private final Map<String, CachedTemplates> templatesCache = new ConcurrentHashMap<>();
+    private @Nullable TransformerFactory transformerFactory;
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,12 +74,12 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        File xslFile;
 
         try {
             String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
                     + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            xslFile = new File(path);
         } catch (Exception e) {
             String message = "opening file '" + filename + "' throws exception";
 
@@ -73,16 +87,14 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException(message, e);
         }
 
-        logger.debug("about to transform '{}' by the function '{}'", source, xsl);
+        logger.debug("about to transform '{}' by the function '{}'", source, xslFile);
 
         StringReader xml = new StringReader(source);
         StringWriter out = new StringWriter();
 
-        Transformer transformer;
-
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
-            transformer.transform(new StreamSource(xml), new StreamResult(out));
+            // Templates are thread-safe, the Transformer created from them is used by this call only
+            getTemplates(xslFile).newTransformer().transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
             throw new TransformationException("transformation throws exception", e);
@@ -92,4 +104,31 @@ public class XsltTransformationService implements TransformationService {
 
         return out.toString();
     }
+
+    private Templates getTemplates(File xslFile) throws TransformerConfigurationException {
+        String key = xslFile.getAbsolutePath();
+        long lastModified = xslFile.lastModified();
+        long length = xslFile.length();
+        CachedTemplates cached = templatesCache.get(key);
+        if (cached != null && cached.lastModified() == lastModified && cached.length() == length) {
+            return cached.templates();
+        }
+
+        Templates templates;
+        // TransformerFactory is not thread-safe
+        synchronized (this) {
+            TransformerFactory factory = transformerFactory;
+            if (factory == null) {
+                factory = TransformerFactory.newInstance();
+                transformerFactory = factory;
+            }
+            templates = factory.newTemplates(new StreamSource(xslFile));
+        }
+        logger.debug("compiled stylesheet '{}'", xslFile);
+        // an unreadable file has no modification time, so it is compiled again on the next call
+        if (lastModified != 0) {
+            templatesCache.put(key, new CachedTemplates(templates, lastModified, length));
+        }
+        return templates;
+    }
 }
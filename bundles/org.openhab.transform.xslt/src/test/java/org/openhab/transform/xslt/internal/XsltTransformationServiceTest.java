@@ -19,6 +19,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +55,19 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformByChangedXSLT() throws TransformationException, IOException {
+        Path xsl = transformHttpPath.resolve("google_weather_changed.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), xsl, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("8", processor.transform("http/google_weather_changed.xsl", source));
+
+        // same length, so the change is detected by the modification time
+        Files.writeString(xsl, Files.readString(xsl).replace("temp_c", "temp_f"));
+        Files.setLastModifiedTime(xsl,
+                FileTime.fromMillis(Files.getLastModifiedTime(xsl).toMillis() + 2000));
+
+        // Asserts
+        assertEquals("46", processor.transform("http/google_weather_changed.xsl", source));
+    }
 }